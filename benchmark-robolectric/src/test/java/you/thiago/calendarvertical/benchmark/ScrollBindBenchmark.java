@@ -0,0 +1,264 @@
+package you.thiago.calendarvertical.benchmark;
+
+import android.app.Activity;
+import android.view.Gravity;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.FrameLayout;
+import android.widget.ListAdapter;
+import android.widget.TextView;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import you.thiago.calendarvertical.CalendarCellDecorator;
+import you.thiago.calendarvertical.CalendarCellView;
+import you.thiago.calendarvertical.CalendarPickerView;
+import you.thiago.calendarvertical.DayViewAdapter;
+
+/**
+ * Binds and measures the months of a {@link CalendarPickerView} through its adapter the way a
+ * {@link android.widget.ListView} does, recycling a screenful of month views, then scrolls the laid
+ * out picker through its whole range, a few pixels at a time as a fling does from frame to frame.
+ * It reports how long binding and measuring each month and each scroll step take, and how many
+ * bytes each allocates. Robolectric runs the real views on the JVM, so absolute timings differ
+ * from a device's, but regressions show up all the same.
+ * <p>
+ * It only runs when asked for, see the module's build file. Parameters are system properties,
+ * set from Gradle properties by the build:
+ * <ul>
+ * <li>{@code bench.years}: length of the calendar range, 2 by default;</li>
+ * <li>{@code bench.decorators}: number of {@link CalendarCellDecorator}s, 0 by default;</li>
+ * <li>{@code bench.dayViewAdapter}: {@code default}, or {@code custom} for cells with two views;</li>
+ * <li>{@code bench.highlightDensity}: share of highlighted days, 0.1 by default;</li>
+ * <li>{@code bench.drawnMonths}: whether each month is drawn by a single view, false by default;</li>
+ * <li>{@code bench.passes}: passes through the whole range, 3 by default, the first one being
+ * reported apart as it creates the views and warms the JVM up;</li>
+ * <li>{@code bench.frameBudgetMs}: if set, the benchmark fails when 95% of the scroll steps of
+ * its last pass don't fit in this many milliseconds. Unset by default, as JVM timings on a given
+ * machine only compare with a budget measured on that same machine.</li>
+ * </ul>
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class ScrollBindBenchmark {
+
+    // A 1080 pixels wide phone screen, holding about three months.
+    private static final int WIDTH = 1080;
+    private static final int HEIGHT = 2400;
+    private static final int RECYCLED_VIEW_COUNT = 4;
+    // Distance scrolled per frame by a fast fling.
+    private static final int SCROLL_STEP = HEIGHT / 8;
+
+    private final int years = Integer.getInteger("bench.years", 2);
+    private final int decoratorCount = Integer.getInteger("bench.decorators", 0);
+    private final String dayViewAdapter = System.getProperty("bench.dayViewAdapter", "default");
+    private final double highlightDensity = Double.parseDouble(System.getProperty("bench.highlightDensity", "0.1"));
+    private final boolean drawnMonths = Boolean.getBoolean("bench.drawnMonths");
+    private final int passes = Integer.getInteger("bench.passes", 3);
+    private final String frameBudgetMs = System.getProperty("bench.frameBudgetMs");
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    public void scrollThroughMonths() throws IOException {
+        Activity activity = Robolectric.buildActivity(Activity.class).setup().get();
+        CalendarPickerView picker = createPicker(activity);
+        int monthCount = picker.getAdapter().getCount();
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.US,
+                "Scroll and bind: %d months, %d decorators, %s day views, %.0f%% highlighted%s, %d px steps%n",
+                monthCount, decoratorCount, dayViewAdapter, highlightDensity * 100,
+                drawnMonths ? ", drawn months" : "", SCROLL_STEP));
+
+        Samples steps = null;
+        for (int pass = 0; pass < passes; pass++) {
+            String name = pass == 0 ? "first pass" : "pass " + (pass + 1);
+            bindMonths(picker, name, report);
+            steps = scrollMonths(picker);
+            report.append(steps.format(name + ", scroll step"));
+        }
+
+        System.out.print(report);
+        String reportPath = System.getProperty("bench.report");
+        if (reportPath != null) {
+            try (Writer writer = new FileWriter(reportPath)) {
+                writer.write(report.toString());
+            }
+        }
+
+        if (frameBudgetMs != null && steps != null) {
+            double budgetMs = Double.parseDouble(frameBudgetMs);
+            double p95Ms = steps.percentile(95) / 1e6;
+            String message = String.format(
+                    Locale.US, "95%% of the scroll steps took up to %.1f ms, over the %.1f ms budget", p95Ms, budgetMs);
+            Assert.assertTrue(message, p95Ms <= budgetMs);
+        }
+    }
+
+    /** Bind and measure every month through the adapter, reusing a screenful of views. */
+    private void bindMonths(CalendarPickerView picker, String name, StringBuilder report) {
+        ListAdapter adapter = picker.getAdapter();
+        int monthCount = adapter.getCount();
+        int widthSpec = View.MeasureSpec.makeMeasureSpec(WIDTH, View.MeasureSpec.EXACTLY);
+        int heightSpec = View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED);
+        View[] recycledViews = new View[RECYCLED_VIEW_COUNT];
+
+        Samples bind = new Samples();
+        Samples measure = new Samples();
+        for (int position = 0; position < monthCount; position++) {
+            int slot = position % RECYCLED_VIEW_COUNT;
+
+            long bytes = allocatedBytes();
+            long start = System.nanoTime();
+            View monthView = adapter.getView(position, recycledViews[slot], picker);
+            long bound = System.nanoTime();
+            long boundBytes = allocatedBytes();
+            monthView.measure(widthSpec, heightSpec);
+            long measured = System.nanoTime();
+            long measuredBytes = allocatedBytes();
+
+            bind.add(bound - start, boundBytes - bytes);
+            measure.add(measured - bound, measuredBytes - boundBytes);
+            recycledViews[slot] = monthView;
+        }
+        report.append(bind.format(name + ", bind")).append(measure.format(name + ", measure"));
+    }
+
+    /** Scroll the laid out picker from its first month to its last one, timing each step. */
+    private Samples scrollMonths(CalendarPickerView picker) {
+        picker.setSelection(0);
+        layOut(picker);
+
+        Samples steps = new Samples();
+        while (picker.canScrollList(1)) {
+            long bytes = allocatedBytes();
+            long start = System.nanoTime();
+            picker.scrollListBy(SCROLL_STEP);
+            long scrolled = System.nanoTime();
+            steps.add(scrolled - start, allocatedBytes() - bytes);
+        }
+        return steps;
+    }
+
+    private CalendarPickerView createPicker(Activity activity) {
+        CalendarPickerView picker = new CalendarPickerView(activity, null);
+        picker.setDrawnMonths(drawnMonths);
+        if (dayViewAdapter.equals("custom")) {
+            picker.setCustomDayView(new TwoViewsDayViewAdapter());
+        }
+        List<CalendarCellDecorator> decorators = new ArrayList<>();
+        for (int i = 0; i < decoratorCount; i++) {
+            decorators.add((cellView, date) -> cellView.setContentDescription(null));
+        }
+        picker.setDecorators(decorators);
+
+        Calendar calendar = Calendar.getInstance(Locale.US);
+        Date minDate = calendar.getTime();
+        calendar.add(Calendar.YEAR, years);
+        Date maxDate = calendar.getTime();
+        picker.init(minDate, maxDate, calendar.getTimeZone(), Locale.US);
+
+        // Highlighted days are spread at random, the same ones on every run.
+        Random random = new Random(42);
+        List<Date> highlighted = new ArrayList<>();
+        calendar.setTime(minDate);
+        while (calendar.getTime().before(maxDate)) {
+            if (random.nextDouble() < highlightDensity) {
+                highlighted.add(calendar.getTime());
+            }
+            calendar.add(Calendar.DATE, 1);
+        }
+        picker.highlightDates(highlighted);
+
+        layOut(picker);
+        return picker;
+    }
+
+    /** Lay the picker out on the whole screen, as a layout pass of its window would. */
+    private static void layOut(CalendarPickerView picker) {
+        picker.measure(View.MeasureSpec.makeMeasureSpec(WIDTH, View.MeasureSpec.EXACTLY),
+                       View.MeasureSpec.makeMeasureSpec(HEIGHT, View.MeasureSpec.EXACTLY));
+        picker.layout(0, 0, WIDTH, HEIGHT);
+    }
+
+    private long allocatedBytes() {
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /** Day views with a second view, as adapters adding an icon or a price under the day do. */
+    private static final class TwoViewsDayViewAdapter implements DayViewAdapter {
+
+        @Override
+        public void makeCellView(CalendarCellView parent) {
+            TextView dayView = new TextView(parent.getContext());
+            dayView.setDuplicateParentStateEnabled(true);
+            parent.addView(dayView, new FrameLayout.LayoutParams(
+                    ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.WRAP_CONTENT));
+            parent.setDayOfMonthTextView(dayView);
+
+            TextView labelView = new TextView(parent.getContext());
+            labelView.setText("*");
+            parent.addView(labelView, new FrameLayout.LayoutParams(
+                    ViewGroup.LayoutParams.WRAP_CONTENT, ViewGroup.LayoutParams.WRAP_CONTENT,
+                    Gravity.BOTTOM | Gravity.CENTER_HORIZONTAL));
+        }
+    }
+
+    /** Durations and allocated bytes of the operations of a pass. */
+    private static final class Samples {
+
+        private long[] nanos = new long[256];
+        private long bytes;
+        private int count;
+
+        void add(long duration, long allocated) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = duration;
+            bytes += allocated;
+        }
+
+        /** Return the duration, in nanoseconds, that {@code percent}% of the operations didn't exceed. */
+        long percentile(int percent) {
+            if (count == 0) {
+                return 0;
+            }
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+            return sorted[Math.min(count - 1, count * percent / 100)];
+        }
+
+        String format(String name) {
+            long total = 0;
+            long max = 0;
+            for (int i = 0; i < count; i++) {
+                total += nanos[i];
+                max = Math.max(max, nanos[i]);
+            }
+            return String.format(Locale.US,
+                    "%-26s mean %8.1f us  p50 %8.1f us  p95 %8.1f us  max %8.1f us  %9d B/op%n",
+                    name, total / 1000.0 / Math.max(count, 1), percentile(50) / 1000.0, percentile(95) / 1000.0,
+                    max / 1000.0, bytes / Math.max(count, 1));
+        }
+    }
+}
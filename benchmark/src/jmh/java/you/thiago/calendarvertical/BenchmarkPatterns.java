@@ -0,0 +1,41 @@
+package you.thiago.calendarvertical;
+
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * {@link CalendarLabels} patterns for the benchmarks: those of the library resources, and for a
+ * month and its year the one the platform picks in English.
+ */
+final class BenchmarkPatterns implements CalendarLabels.Patterns {
+
+    static final BenchmarkPatterns INSTANCE = new BenchmarkPatterns();
+
+    private BenchmarkPatterns() {
+    }
+
+    /** Return the labels of a calendar in {@code timeZone} and {@link Locale#US}. */
+    static CalendarLabels labels(TimeZone timeZone) {
+        return CalendarLabels.get(INSTANCE, Locale.US, timeZone, false);
+    }
+
+    @Override
+    public String getDayNamePattern() {
+        return "EEE";
+    }
+
+    @Override
+    public String getMonthPattern(Locale locale) {
+        return "MMMM y";
+    }
+
+    @Override
+    public String getMonthOnlyPattern() {
+        return "MMMM";
+    }
+
+    @Override
+    public String getYearOnlyPattern() {
+        return "yyyy";
+    }
+}
@@ -0,0 +1,63 @@
+package you.thiago.calendarvertical;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * Highlighting ten thousand dates at once with a year of months cached, through
+ * {@link CalendarState#highlightDates}, and looking dates up in the highlights as cells do.
+ */
+@State(Scope.Thread)
+public class HighlightBenchmark {
+
+    private static final int DATE_COUNT = 10_000;
+
+    private final CalendarState calendar = new CalendarState();
+    private final Date[] dates = new Date[DATE_COUNT];
+    private final List<Date> dateList = Arrays.asList(dates);
+    private final TimeZone timeZone = TimeZone.getTimeZone("America/Sao_Paulo");
+    private CalendarState.Bounds bounds;
+    private int dateIndex;
+
+    @Setup
+    public void setUp() {
+        Calendar cal = Calendar.getInstance(timeZone, Locale.US);
+        cal.set(2026, Calendar.JANUARY, 1, 12, 0, 0);
+        Date minDate = cal.getTime();
+        // Every other day, about 55 years.
+        for (int i = 0; i < DATE_COUNT; i++) {
+            dates[i] = cal.getTime();
+            cal.add(Calendar.DATE, 2);
+        }
+        Date maxDate = cal.getTime();
+
+        bounds = new CalendarState.Bounds(minDate, maxDate, timeZone, Locale.US, BenchmarkPatterns.labels(timeZone));
+        calendar.init(bounds);
+        calendar.highlightDates(dateList);
+    }
+
+    @Benchmark
+    public int highlightDates() {
+        calendar.init(bounds);
+        for (int index = 0; index < 12; index++) {
+            calendar.getMonthCellsAt(index);
+        }
+        calendar.highlightDates(dateList);
+        return calendar.cells.size();
+    }
+
+    @Benchmark
+    public boolean isDateHighlighted() {
+        dateIndex = (dateIndex + 1) % DATE_COUNT;
+        return calendar.highlightedDays.contains(calendar.toDay(dates[dateIndex]));
+    }
+}
@@ -0,0 +1,66 @@
+package you.thiago.calendarvertical;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * Initializing a {@link CalendarState} over ranges of several lengths, as
+ * {@code CalendarPickerView.init()} does, and building the cells of a month.
+ */
+@State(Scope.Thread)
+public class MonthBenchmark {
+
+    // Months a phone shows, plus the one prefetched next.
+    private static final int FIRST_MONTH_COUNT = 4;
+
+    @Param({"1", "5", "20"})
+    public int years;
+
+    private final CalendarState calendar = new CalendarState();
+    private final TimeZone timeZone = TimeZone.getTimeZone("America/Sao_Paulo");
+    private final Locale locale = Locale.US;
+    private CalendarLabels labels;
+    private Date minDate;
+    private Date maxDate;
+    private int monthIndex;
+
+    @Setup
+    public void setUp() {
+        Calendar calendar = Calendar.getInstance(timeZone, locale);
+        calendar.set(2026, Calendar.JANUARY, 1, 0, 0, 0);
+        minDate = calendar.getTime();
+        calendar.add(Calendar.YEAR, years);
+        maxDate = calendar.getTime();
+        labels = BenchmarkPatterns.labels(timeZone);
+        this.calendar.init(new CalendarState.Bounds(minDate, maxDate, timeZone, locale, labels));
+    }
+
+    /** Bounds worked out and applied, then the first months built as they are displayed. */
+    @Benchmark
+    public MonthCells init() {
+        calendar.init(new CalendarState.Bounds(minDate, maxDate, timeZone, locale, labels));
+        MonthCells monthCells = null;
+        for (int index = 0; index < FIRST_MONTH_COUNT; index++) {
+            monthCells = calendar.getMonthCellsAt(index);
+        }
+        return monthCells;
+    }
+
+    /**
+     * A month built from scratch, going through every month of the range in turn. Titles are
+     * formatted on the first pass only, see {@link MonthTitleBenchmark}.
+     */
+    @Benchmark
+    public MonthCells buildMonth() {
+        monthIndex = (monthIndex + 1) % calendar.getBounds().monthCount;
+        return calendar.buildMonthCells(monthIndex);
+    }
+}
@@ -0,0 +1,47 @@
+package you.thiago.calendarvertical;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.TimeZone;
+
+/**
+ * Month titles from {@link CalendarLabels}, such as "October 2026": formatted the first time a
+ * month is shown, and looked up when it is shown again.
+ */
+@State(Scope.Thread)
+public class MonthTitleBenchmark {
+
+    // Twice the titles CalendarLabels keeps: going through them in order, none is kept anymore by
+    // the time it comes again.
+    private static final int FORMATTED_MONTH_COUNT = 2400;
+    // Fewer than the titles CalendarLabels keeps, so that they all stay formatted.
+    private static final int KEPT_MONTH_COUNT = 1000;
+
+    private CalendarLabels labels;
+    private int firstMonthOrdinal;
+    private int monthIndex;
+
+    @Setup
+    public void setUp() {
+        labels = BenchmarkPatterns.labels(TimeZone.getTimeZone("America/Sao_Paulo"));
+        firstMonthOrdinal = CalendarDays.monthOrdinal(2026, 0);
+        for (int i = 0; i < KEPT_MONTH_COUNT; i++) {
+            labels.getMonthTitle(firstMonthOrdinal + i);
+        }
+    }
+
+    @Benchmark
+    public String formatTitle() {
+        monthIndex = (monthIndex + 1) % FORMATTED_MONTH_COUNT;
+        return labels.getMonthTitle(firstMonthOrdinal + monthIndex);
+    }
+
+    @Benchmark
+    public String lookUpTitle() {
+        monthIndex = (monthIndex + 1) % KEPT_MONTH_COUNT;
+        return labels.getMonthTitle(firstMonthOrdinal + monthIndex);
+    }
+}
@@ -0,0 +1,66 @@
+package you.thiago.calendarvertical;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * Selecting dates in RANGE and MULTIPLE modes with a year of months cached, through the
+ * {@link CalendarState} methods {@code CalendarPickerView.doSelectDate()} calls.
+ */
+@State(Scope.Thread)
+public class SelectionBenchmark {
+
+    // Distinct dates selected in turn, two years' worth.
+    private static final int DATE_COUNT = 730;
+
+    @Param({"RANGE", "MULTIPLE"})
+    public String mode;
+
+    private final CalendarState calendar = new CalendarState();
+    private final Date[] dates = new Date[DATE_COUNT];
+    private int dateIndex;
+
+    @Setup
+    public void setUp() {
+        TimeZone timeZone = TimeZone.getTimeZone("America/Sao_Paulo");
+        Calendar cal = Calendar.getInstance(timeZone, Locale.US);
+        cal.set(2026, Calendar.JANUARY, 1, 12, 0, 0);
+        Date minDate = cal.getTime();
+        for (int i = 0; i < DATE_COUNT; i++) {
+            dates[i] = cal.getTime();
+            cal.add(Calendar.DATE, 1);
+        }
+        Date maxDate = cal.getTime();
+
+        calendar.init(new CalendarState.Bounds(
+                minDate, maxDate, timeZone, Locale.US, BenchmarkPatterns.labels(timeZone)));
+        calendar.setRangeMode(mode.equals("RANGE"));
+        for (int index = 0; index < 12; index++) {
+            calendar.getMonthCellsAt(index);
+        }
+    }
+
+    /**
+     * Select the next date: in RANGE mode it starts or ends a range, in MULTIPLE mode it adds a
+     * date until they all are, then removes them in turn.
+     */
+    @Benchmark
+    public boolean selectDate() {
+        if (calendar.isRangeMode()) {
+            // Dates of a range are months apart, so that ranges span the cached months.
+            dateIndex = (dateIndex + 97) % DATE_COUNT;
+            calendar.selectRangeDay(calendar.toDay(dates[dateIndex]), false);
+            return true;
+        }
+        dateIndex = (dateIndex + 1) % DATE_COUNT;
+        return calendar.toggleDay(calendar.toDay(dates[dateIndex]));
+    }
+}
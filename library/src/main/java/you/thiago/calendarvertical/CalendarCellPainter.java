@@ -0,0 +1,24 @@
+package you.thiago.calendarvertical;
+
+import android.graphics.Canvas;
+import android.graphics.Rect;
+
+/**
+ * Draws the cells of months drawn as single views, see
+ * {@link CalendarPickerView#setDrawnMonths(boolean)}, where there is no {@link CalendarCellView}
+ * to lay out or decorate.
+ * <p>
+ * A {@link DayViewAdapter} implementing it draws each cell in place of the default background and
+ * day number. {@link CalendarCellDecorator}s and {@link CalendarMonthDecorator}s implementing it
+ * draw over each cell once it is drawn; the other ones are ignored in that mode.
+ */
+public interface CalendarCellPainter {
+  /**
+   * @param canvas the canvas of the month view
+   * @param bounds the bounds of the cell on {@code canvas}
+   * @param cell the cell to draw; it is only valid during this call
+   * @param drawableState the states a {@link CalendarCellView} showing the cell would have, for
+   *     state lists to resolve; it must not be modified
+   */
+  void paintCell(Canvas canvas, Rect bounds, MonthCellDescriptor cell, int[] drawableState);
+}
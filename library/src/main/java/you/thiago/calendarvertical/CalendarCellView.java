@@ -18,6 +18,9 @@ public class CalendarCellView extends FrameLayout {
   private static final int[] STATE_HIGHLIGHTED = {
       R.attr.calendarcellview_state_highlighted
   };
+  private static final int[] STATE_PENDING = {
+      R.attr.calendarcellview_state_pending
+  };
   private static final int[] STATE_RANGE_FIRST = {
       R.attr.calendarcellview_state_range_first
   };
@@ -28,92 +31,140 @@ public class CalendarCellView extends FrameLayout {
       R.attr.calendarcellview_state_range_last
   };
 
-  private boolean isSelectable = false;
-  private boolean isCurrentMonth = false;
-  private boolean isToday = false;
-  private boolean isHighlighted = false;
-  private RangeState rangeState = RangeState.NONE;
+  // State of the cell packed as MonthCells flags, but for the selection which is the View's own.
+  private int flags;
   private TextView dayOfMonthTextView;
+  // While set, drawable state refreshes are put off, see setCellFlags().
+  private boolean isApplyingFlags;
+  private boolean isDrawableStateStale;
 
   @SuppressWarnings("UnusedDeclaration") //
   public CalendarCellView(Context context, AttributeSet attrs) {
     super(context, attrs);
   }
 
-  public void setSelectable(boolean isSelectable) {
-    if (this.isSelectable != isSelectable) {
-      this.isSelectable = isSelectable;
+  /**
+   * Apply a state packed as {@link MonthCells} flags at once, the cell being enabled in its current
+   * month only: the drawable state is refreshed at most once, and not at all if the state didn't
+   * change.
+   */
+  void setCellFlags(int flags) {
+    final boolean selected = (flags & MonthCells.FLAG_SELECTED) != 0;
+    final boolean enabled = (flags & MonthCells.FLAG_CURRENT_MONTH) != 0;
+    flags &= ~MonthCells.FLAG_SELECTED;
+    isDrawableStateStale = this.flags != flags;
+    this.flags = flags;
+    // The View's own enabled and selected states refresh the drawable state when they change:
+    // put that off until all of them are set.
+    isApplyingFlags = true;
+    try {
+      setEnabled(enabled);
+      setSelected(selected);
+    } finally {
+      isApplyingFlags = false;
+    }
+    if (isDrawableStateStale) {
       refreshDrawableState();
     }
   }
 
-  public void setCurrentMonth(boolean isCurrentMonth) {
-    if (this.isCurrentMonth != isCurrentMonth) {
-      this.isCurrentMonth = isCurrentMonth;
-      refreshDrawableState();
+  @Override public void refreshDrawableState() {
+    if (isApplyingFlags) {
+      isDrawableStateStale = true;
+      return;
     }
+    isDrawableStateStale = false;
+    super.refreshDrawableState();
+  }
+
+  public void setSelectable(boolean isSelectable) {
+    setFlag(MonthCells.FLAG_SELECTABLE, isSelectable);
+  }
+
+  public void setCurrentMonth(boolean isCurrentMonth) {
+    setFlag(MonthCells.FLAG_CURRENT_MONTH, isCurrentMonth);
   }
 
   public void setToday(boolean isToday) {
-    if (this.isToday != isToday) {
-      this.isToday = isToday;
-      refreshDrawableState();
-    }
+    setFlag(MonthCells.FLAG_TODAY, isToday);
   }
 
   public void setRangeState(RangeState rangeState) {
-    if (this.rangeState != rangeState) {
-      this.rangeState = rangeState;
-      refreshDrawableState();
-    }
+    setFlags(MonthCells.withRangeState(flags, rangeState));
   }
 
   public void setHighlighted(boolean isHighlighted) {
-    if (this.isHighlighted != isHighlighted) {
-      this.isHighlighted = isHighlighted;
-      refreshDrawableState();
-    }
+    setFlag(MonthCells.FLAG_HIGHLIGHTED, isHighlighted);
+  }
+
+  /** Set while the selectability of the day is being evaluated in the background. */
+  public void setPending(boolean isPending) {
+    setFlag(MonthCells.FLAG_PENDING, isPending);
   }
 
   public boolean isCurrentMonth() {
-    return isCurrentMonth;
+    return hasFlag(MonthCells.FLAG_CURRENT_MONTH);
   }
 
   public boolean isToday() {
-    return isToday;
+    return hasFlag(MonthCells.FLAG_TODAY);
   }
 
   public boolean isSelectable() {
-    return isSelectable;
+    return hasFlag(MonthCells.FLAG_SELECTABLE);
   }
 
   public boolean isHighlighted() {
-    return isHighlighted;
+    return hasFlag(MonthCells.FLAG_HIGHLIGHTED);
+  }
+
+  public boolean isPending() {
+    return hasFlag(MonthCells.FLAG_PENDING);
   }
 
   public RangeState getRangeState() {
-    return rangeState;
+    return MonthCells.rangeStateOf(flags);
+  }
+
+  private boolean hasFlag(int flag) {
+    return (flags & flag) != 0;
+  }
+
+  private void setFlag(int flag, boolean value) {
+    setFlags(value ? flags | flag : flags & ~flag);
+  }
+
+  private void setFlags(int flags) {
+    if (this.flags != flags) {
+      this.flags = flags;
+      refreshDrawableState();
+    }
   }
 
   @Override protected int[] onCreateDrawableState(int extraSpace) {
-    final int[] drawableState = super.onCreateDrawableState(extraSpace + 5);
+    final int[] drawableState = super.onCreateDrawableState(extraSpace + 6);
 
-    if (isSelectable) {
+    if (isSelectable()) {
       mergeDrawableStates(drawableState, STATE_SELECTABLE);
     }
 
-    if (isCurrentMonth) {
+    if (isCurrentMonth()) {
       mergeDrawableStates(drawableState, STATE_CURRENT_MONTH);
     }
 
-    if (isToday) {
+    if (isToday()) {
       mergeDrawableStates(drawableState, STATE_TODAY);
     }
 
-    if (isHighlighted) {
+    if (isHighlighted()) {
       mergeDrawableStates(drawableState, STATE_HIGHLIGHTED);
     }
 
+    if (isPending()) {
+      mergeDrawableStates(drawableState, STATE_PENDING);
+    }
+
+    final RangeState rangeState = getRangeState();
     if (rangeState == RangeState.FIRST) {
       mergeDrawableStates(drawableState, STATE_RANGE_FIRST);
     } else if (rangeState == RangeState.MIDDLE) {
@@ -0,0 +1,126 @@
+package you.thiago.calendarvertical;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.TimeZone;
+
+/**
+ * Conversions between instants and epoch days (the number of days since 1970-01-01) in a given
+ * time zone. Epoch days let the calendar model compare and store dates as plain ints.
+ */
+final class CalendarDays {
+
+    static final long MILLIS_PER_DAY = 86_400_000L;
+
+    /** Stands for "no day" where an epoch day is expected. */
+    static final int NO_DAY = Integer.MIN_VALUE;
+
+    private CalendarDays() {
+    }
+
+    /** Return the epoch day the given instant falls on in {@code timeZone}. */
+    static int fromMillis(long millis, TimeZone timeZone) {
+        return (int) Math.floorDiv(millis + timeZone.getOffset(millis), MILLIS_PER_DAY);
+    }
+
+    /** Return the epoch day of the given calendar, in the calendar's own time zone. */
+    static int fromCalendar(Calendar cal) {
+        return fromMillis(cal.getTimeInMillis(), cal.getTimeZone());
+    }
+
+    /**
+     * Return midnight of the given epoch day in {@code timeZone}, resolved like a lenient
+     * {@link Calendar} does around DST changes: a skipped midnight becomes the first valid time of
+     * the day, and a repeated one its later occurrence.
+     */
+    static long toMillis(int epochDay, TimeZone timeZone) {
+        long local = epochDay * MILLIS_PER_DAY;
+        // Midnight happens within a day of the same wall time in UTC, so resolving it with the
+        // offsets in effect a day before and a day after covers any DST change around it.
+        long early = local - timeZone.getOffset(local - MILLIS_PER_DAY);
+        long late = local - timeZone.getOffset(local + MILLIS_PER_DAY);
+        boolean isEarlyExact = early + timeZone.getOffset(early) == local;
+        boolean isLateExact = late + timeZone.getOffset(late) == local;
+
+        if (isEarlyExact && isLateExact) {
+            return Math.max(early, late);
+        } else if (isEarlyExact) {
+            return early;
+        } else if (isLateExact) {
+            return late;
+        }
+        // Midnight was skipped: only the transition instant falls on the requested day.
+        long millis = Math.max(early, late);
+        return fromMillis(millis, timeZone) == epochDay ? millis : Math.min(early, late);
+    }
+
+    /**
+     * Return the month ordinal ({@code year * 12 + month}, with a 0-based month like
+     * {@link Calendar#MONTH}) of the given epoch day in the proleptic Gregorian calendar. Months
+     * can then be indexed by subtracting the ordinal of the first one.
+     */
+    static int monthOrdinal(int epochDay) {
+        // Civil-from-days conversion, with years starting on March 1st so leap days come last.
+        int z = epochDay + 719468;
+        int era = Math.floorDiv(z, 146097);
+        int dayOfEra = z - era * 146097;
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int monthFromMarch = (5 * dayOfYear + 2) / 153;
+
+        int year = yearOfEra + era * 400;
+        int month = monthFromMarch < 10 ? monthFromMarch + 2 : monthFromMarch - 10;
+        if (month < 2) {
+            year++;
+        }
+        return year * 12 + month;
+    }
+
+    /** Return the month ordinal of a year and a 0-based month, see {@link #monthOrdinal(int)}. */
+    static int monthOrdinal(int year, int month) {
+        return year * 12 + month;
+    }
+
+    /** Return the epoch day of the 1st of the month with the given ordinal. */
+    static int firstDayOfMonth(int monthOrdinal) {
+        // Days-from-civil conversion, the inverse of monthOrdinal(int).
+        int month = Math.floorMod(monthOrdinal, 12);
+        int year = Math.floorDiv(monthOrdinal, 12);
+        if (month < 2) {
+            year--;
+        }
+        int era = Math.floorDiv(year, 400);
+        int yearOfEra = year - era * 400;
+        int monthFromMarch = month < 2 ? month + 10 : month - 2;
+        int dayOfYear = (153 * monthFromMarch + 2) / 5;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    /** Return the number of days in the month with the given ordinal. */
+    static int monthLength(int monthOrdinal) {
+        return firstDayOfMonth(monthOrdinal + 1) - firstDayOfMonth(monthOrdinal);
+    }
+
+    /**
+     * Return the day of the week of an epoch day, from {@link Calendar#SUNDAY} to
+     * {@link Calendar#SATURDAY}.
+     */
+    static int dayOfWeek(int epochDay) {
+        // 1970-01-01 was a Thursday.
+        return Math.floorMod(epochDay + 4, 7) + Calendar.SUNDAY;
+    }
+
+    /**
+     * Return how many days of the previous week come before an epoch day when weeks start on
+     * {@code firstDayOfWeek}, from 0 to 6.
+     */
+    static int daysIntoWeek(int epochDay, int firstDayOfWeek) {
+        return Math.floorMod(dayOfWeek(epochDay) - firstDayOfWeek, 7);
+    }
+
+    /** Return a new {@link Date} for the first instant of the given epoch day. */
+    static Date toDate(int epochDay, TimeZone timeZone) {
+        return new Date(toMillis(epochDay, timeZone));
+    }
+}
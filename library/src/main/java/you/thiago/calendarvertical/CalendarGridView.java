@@ -10,6 +10,8 @@ import android.view.ViewGroup;
 import androidx.appcompat.content.res.AppCompatResources;
 import androidx.core.content.res.ResourcesCompat;
 
+import java.util.Arrays;
+
 import static android.os.Build.VERSION;
 import static android.os.Build.VERSION_CODES;
 import static android.view.View.MeasureSpec.AT_MOST;
@@ -22,8 +24,11 @@ import static android.view.View.MeasureSpec.makeMeasureSpec;
  */
 public class CalendarGridView extends ViewGroup {
 
-    private int oldWidthMeasureSize;
-    private int oldNumRows;
+    // Heights measured for the width in measuredWidthSize, by number of rows: months alternating
+    // between 4, 5 and 6 weeks don't invalidate each other's.
+    private final int[] heightsByNumRows = new int[7];
+    private int measuredWidthSize = -1;
+    private int numRows = 6;
 
     public CalendarGridView(Context context, AttributeSet attrs) {
         super(context, attrs);
@@ -67,6 +72,13 @@ public class CalendarGridView extends ViewGroup {
         ((CalendarRowView) getChildAt(0)).setCellTextColor(color);
     }
 
+    /** Set whether decorators may change the content of the cells, so that rows fit them. */
+    public void setCellsDecorated(boolean cellsDecorated) {
+        for (int i = 1; i < getChildCount(); i++) {
+            ((CalendarRowView) getChildAt(i)).setCellsDecorated(cellsDecorated);
+        }
+    }
+
     public void setTypeface(Typeface typeface) {
         for (int i = 0; i < getChildCount(); i++) {
             ((CalendarRowView) getChildAt(i)).setTypeface(typeface);
@@ -84,39 +96,69 @@ public class CalendarGridView extends ViewGroup {
     @Override
     protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
         int widthMeasureSize = MeasureSpec.getSize(widthMeasureSpec);
-        if (oldWidthMeasureSize == widthMeasureSize) {
-            setMeasuredDimension(getMeasuredWidth(), getMeasuredHeight());
-            return;
+        if (measuredWidthSize != widthMeasureSize) {
+            measuredWidthSize = widthMeasureSize;
+            Arrays.fill(heightsByNumRows, 0);
         }
-        oldWidthMeasureSize = widthMeasureSize;
         int cellSize = widthMeasureSize / 7;
         // Remove any extra pixels since /7 is unlikely to give whole nums.
         widthMeasureSize = cellSize * 7;
+        final int measuredWidth = widthMeasureSize + 2; // Fudge factor to make the borders show up.
+
+        // Rows are only measured again when one of them changed: another row count alone doesn't
+        // change the height of each row.
+        if (heightsByNumRows[numRows] != 0 && !isRowLayoutRequested()) {
+            setMeasuredDimension(measuredWidth, heightsByNumRows[numRows]);
+            return;
+        }
+
         int totalHeight = 0;
+        boolean rowHeightChanged = false;
         final int rowWidthSpec = makeMeasureSpec(widthMeasureSize, EXACTLY);
         // Most cells are gonna be cellSize tall, but we want to allow custom cells to be taller.
         final int rowHeightSpec = makeMeasureSpec(widthMeasureSize, AT_MOST);
         for (int c = 0, numChildren = getChildCount(); c < numChildren; c++) {
             final View child = getChildAt(c);
-            child.setMinimumHeight(cellSize);
+            // Setting the same minimum height again would still request a layout of the row.
+            if (child.getMinimumHeight() != cellSize) {
+                child.setMinimumHeight(cellSize);
+            }
             if (child.getVisibility() == View.VISIBLE) {
+                final int oldRowHeight = child.getMeasuredHeight();
                 if (c == 0) { // It's the header: height should be wrap_content.
                     measureChild(child, rowWidthSpec, makeMeasureSpec(cellSize, AT_MOST));
                 } else {
                     measureChild(child, rowWidthSpec, rowHeightSpec);
                 }
+                rowHeightChanged |= child.getMeasuredHeight() != oldRowHeight;
                 totalHeight += child.getMeasuredHeight();
             }
         }
-        final int measuredWidth = widthMeasureSize + 2; // Fudge factor to make the borders show up.
+        if (rowHeightChanged) {
+            // The heights kept for the other row counts were summed from the previous heights.
+            Arrays.fill(heightsByNumRows, 0);
+        }
+        heightsByNumRows[numRows] = totalHeight;
         setMeasuredDimension(measuredWidth, totalHeight);
     }
 
+    private boolean isRowLayoutRequested() {
+        for (int c = 0, numChildren = getChildCount(); c < numChildren; c++) {
+            if (getChildAt(c).isLayoutRequested()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     protected void onLayout(boolean changed, int left, int top, int right, int bottom) {
         int topCalc = 0;
         for (int c = 0, numChildren = getChildCount(); c < numChildren; c++) {
             final View child = getChildAt(c);
+            if (child.getVisibility() == GONE) {
+                continue;
+            }
             final int rowHeight = child.getMeasuredHeight();
             child.layout(left, topCalc, right, topCalc + rowHeight);
             topCalc += rowHeight;
@@ -124,10 +166,7 @@ public class CalendarGridView extends ViewGroup {
     }
 
     public void setNumRows(int numRows) {
-        if (oldNumRows != numRows) {
-            // If the number of rows changes, make sure we do a re-measure next time around.
-            oldWidthMeasureSize = 0;
-        }
-        oldNumRows = numRows;
+        // Rows shown or hidden request a layout themselves, and heights are kept by row count.
+        this.numRows = numRows;
     }
 }
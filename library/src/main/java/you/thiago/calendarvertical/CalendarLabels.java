@@ -0,0 +1,223 @@
+package you.thiago.calendarvertical;
+
+import java.text.DateFormat;
+import java.text.NumberFormat;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+
+/**
+ * Labels of a calendar for a locale, a time zone, a digits mode and date format patterns: month
+ * titles, day names and day numbers. They are formatted for their locale without changing the
+ * default one, and shared by every picker through {@link #get}. Instances can be used from any
+ * thread.
+ */
+final class CalendarLabels {
+
+    /**
+     * Date format patterns of the labels, such as the ones of the library resources, see
+     * {@link ResourceLabelPatterns}. Asked on each {@link #get}: the patterns are part of what
+     * labels are shared by.
+     */
+    interface Patterns {
+
+        /** Return the pattern of short day names, such as "EEE". */
+        String getDayNamePattern();
+
+        /** Return the pattern of a month and its year in {@code locale}, such as "MMMM yyyy". */
+        String getMonthPattern(Locale locale);
+
+        /** Return the pattern of a month alone, for titles whose year is formatted apart. */
+        String getMonthOnlyPattern();
+
+        /** Return the pattern of a year alone, formatted with latin digits. */
+        String getYearOnlyPattern();
+    }
+
+    // Languages whose years are written with their own digits, unless digits are forced: their
+    // month titles are then built from the month name and a year with latin digits.
+    private static final List<String> EXPLICITLY_NUMERIC_YEAR_LANGUAGES = Arrays.asList("ar", "my");
+
+    // Month titles kept per labels, the most recently used first, a hundred years' worth.
+    private static final int MAX_MONTH_TITLES = 1200;
+    // Labels kept for the whole process, the most recently used first: a few locales and time
+    // zones at most are used at a time.
+    private static final int MAX_LABELS = 16;
+
+    // Only used while holding its lock.
+    private static final LruMap<List<Object>, CalendarLabels> cache = new LruMap<>(MAX_LABELS);
+
+    // What these labels are shared by, as plain values, see get().
+    private final List<Object> key;
+    private final Locale locale;
+    private final TimeZone timeZone;
+    private final boolean alwaysDigitNumbers;
+    // Day numbers from 1 to 31, and short day names by Calendar day of week.
+    private final String[] dayNumbers = new String[32];
+    private final String[] dayNames = new String[8];
+    // Formats are not thread-safe: both are only used while holding monthFormat's lock.
+    private final DateFormat monthFormat;
+    private final DateFormat yearFormat;
+    // Format of the days read out by accessibility services, only used while holding its lock.
+    private final DateFormat dayDescriptionFormat;
+    // Only used while holding its lock.
+    private final LruMap<Integer, String> monthTitles = new LruMap<>(MAX_MONTH_TITLES);
+
+    /**
+     * Return the labels for the given locale, time zone, digits mode and {@code patterns}, shared
+     * with the calls asking for the same ones.
+     */
+    static CalendarLabels get(Patterns patterns, Locale locale, TimeZone timeZone, boolean alwaysDigitNumbers) {
+        String[] resolvedPatterns = {
+                patterns.getDayNamePattern(), patterns.getMonthPattern(locale),
+                patterns.getMonthOnlyPattern(), patterns.getYearOnlyPattern()
+        };
+        List<Object> key = Arrays.asList(
+                locale.toLanguageTag(), timeZone.getID(), alwaysDigitNumbers, resolvedPatterns[0],
+                resolvedPatterns[1], resolvedPatterns[2], resolvedPatterns[3]);
+        CalendarLabels labels;
+        synchronized (cache) {
+            labels = cache.get(key);
+        }
+        if (labels == null) {
+            // Created outside of the lock, the first labels kept winning if another thread was faster.
+            labels = new CalendarLabels(key, resolvedPatterns, locale, timeZone, alwaysDigitNumbers);
+            synchronized (cache) {
+                CalendarLabels previous = cache.putIfAbsent(key, labels);
+                if (previous != null) {
+                    labels = previous;
+                }
+            }
+        }
+        return labels;
+    }
+
+    /**
+     * @param patterns the day name, month, month only and year only patterns, see {@link Patterns}
+     */
+    private CalendarLabels(
+            List<Object> key, String[] patterns, Locale locale, TimeZone timeZone, boolean alwaysDigitNumbers
+    ) {
+        this.key = key;
+        this.locale = locale;
+        this.timeZone = (TimeZone) timeZone.clone();
+        this.alwaysDigitNumbers = alwaysDigitNumbers;
+
+        NumberFormat numberFormat = NumberFormat.getInstance(alwaysDigitNumbers ? Locale.US : locale);
+        for (int value = 1; value < dayNumbers.length; value++) {
+            dayNumbers[value] = numberFormat.format(value);
+        }
+
+        DateFormat dayNameFormat = new SimpleDateFormat(patterns[0], locale);
+        dayNameFormat.setTimeZone(this.timeZone);
+        // Epoch day 3, January 4th 1970, is a Sunday.
+        for (int dayOfWeek = Calendar.SUNDAY; dayOfWeek <= Calendar.SATURDAY; dayOfWeek++) {
+            dayNames[dayOfWeek] = dayNameFormat.format(CalendarDays.toDate(3 + dayOfWeek - Calendar.SUNDAY, timeZone));
+        }
+
+        if (alwaysDigitNumbers && EXPLICITLY_NUMERIC_YEAR_LANGUAGES.contains(locale.getLanguage())) {
+            monthFormat = new SimpleDateFormat(patterns[2], locale);
+            yearFormat = new SimpleDateFormat(patterns[3], Locale.ENGLISH);
+            yearFormat.setTimeZone(this.timeZone);
+        } else {
+            monthFormat = new SimpleDateFormat(patterns[1], locale);
+            yearFormat = null;
+        }
+        monthFormat.setTimeZone(this.timeZone);
+
+        dayDescriptionFormat = DateFormat.getDateInstance(DateFormat.FULL, locale);
+        dayDescriptionFormat.setTimeZone(this.timeZone);
+    }
+
+    /**
+     * Return what these labels stand for, their locale, time zone, digits mode and patterns, as
+     * plain values: equal keys make equal labels, even once these are no longer cached.
+     */
+    List<Object> getKey() {
+        return key;
+    }
+
+    Locale getLocale() {
+        return locale;
+    }
+
+    boolean isAlwaysDigitNumbers() {
+        return alwaysDigitNumbers;
+    }
+
+    /** Return the label of a day of month, from 1 to 31. */
+    String getDayNumber(int dayOfMonth) {
+        return dayNumbers[dayOfMonth];
+    }
+
+    /**
+     * Return the full date of an epoch day, such as "Monday, October 12, 2026", for accessibility
+     * services to read out. Formatted on each call.
+     */
+    String getDayDescription(int epochDay) {
+        Date date = CalendarDays.toDate(epochDay, timeZone);
+        synchronized (dayDescriptionFormat) {
+            return dayDescriptionFormat.format(date);
+        }
+    }
+
+    /**
+     * Return the short names of the days of the week, in the order the columns of a month show
+     * them.
+     */
+    List<String> getWeekDaysNames(int firstDayOfWeek, boolean isRtl) {
+        List<String> weekDaysNames = new ArrayList<>(7);
+        for (int offset = 0; offset < 7; offset++) {
+            int dayOfWeek = isRtl ? 8 - (firstDayOfWeek + offset) : firstDayOfWeek + offset;
+            weekDaysNames.add(dayNames[Math.floorMod(dayOfWeek - Calendar.SUNDAY, 7) + Calendar.SUNDAY]);
+        }
+        return weekDaysNames;
+    }
+
+    /**
+     * Return the title of the month with the given ordinal (see
+     * {@link CalendarDays#monthOrdinal(int)}), such as "October 2026".
+     */
+    String getMonthTitle(int monthOrdinal) {
+        String title;
+        synchronized (monthTitles) {
+            title = monthTitles.get(monthOrdinal);
+        }
+        if (title == null) {
+            Date date = CalendarDays.toDate(CalendarDays.firstDayOfMonth(monthOrdinal), timeZone);
+            synchronized (monthFormat) {
+                title = monthFormat.format(date);
+                if (yearFormat != null) {
+                    title += " " + yearFormat.format(date);
+                }
+            }
+            synchronized (monthTitles) {
+                monthTitles.put(monthOrdinal, title);
+            }
+        }
+        return title;
+    }
+
+    /** Map keeping its most recently used entries only, up to a maximum size. Not thread-safe. */
+    private static final class LruMap<K, V> extends LinkedHashMap<K, V> {
+
+        private final int maxSize;
+
+        LruMap(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > maxSize;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package you.thiago.calendarvertical;
+
+import java.util.List;
+
+/**
+ * Decorates the cells of a month in one call, see
+ * {@link CalendarPickerView#setMonthDecorators(List)}.
+ * <p>
+ * Cells are only handed over again when what they show changed: another day, another state, or a
+ * call to {@link CalendarPickerView#invalidateDecorations()}. Other cells keep their previous
+ * decoration, so a decorator must not rely on being called on every bind.
+ */
+public interface CalendarMonthDecorator {
+  /**
+   * @param month the month the cells belong to
+   * @param cells the cells to decorate; they are only valid during this call
+   * @param cellViews the views of {@code cells}, in the same order
+   */
+  void decorate(MonthDescriptor month, List<MonthCellDescriptor> cells, List<CalendarCellView> cellViews);
+}
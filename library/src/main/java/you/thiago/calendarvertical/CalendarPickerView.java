@@ -2,9 +2,11 @@ package you.thiago.calendarvertical;
 
 import android.annotation.SuppressLint;
 import android.content.Context;
+import android.content.res.Resources;
 import android.content.res.TypedArray;
 import android.graphics.Typeface;
-import android.text.format.DateUtils;
+import android.os.Parcel;
+import android.os.Parcelable;
 import android.util.AttributeSet;
 import android.view.LayoutInflater;
 import android.view.View;
@@ -19,27 +21,22 @@ import java.text.DateFormatSymbols;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
-import java.util.Formatter;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
 
 import androidx.annotation.Nullable;
 import androidx.core.content.ContextCompat;
+import androidx.customview.view.AbsSavedState;
 
-import static java.util.Calendar.DATE;
-import static java.util.Calendar.DAY_OF_MONTH;
-import static java.util.Calendar.DAY_OF_WEEK;
-import static java.util.Calendar.HOUR_OF_DAY;
-import static java.util.Calendar.MILLISECOND;
-import static java.util.Calendar.MINUTE;
-import static java.util.Calendar.MONTH;
-import static java.util.Calendar.SECOND;
-import static java.util.Calendar.YEAR;
 
 /**
  * Android component to allow picking a date from a calendar view (a list of months).  Must be
@@ -68,31 +65,56 @@ public class CalendarPickerView extends ListView {
         MULTIPLE
     }
 
-    // List of languages that require manually creation of YYYY MMMM date format
-    private static final ArrayList<String> explicitlyNumericYearLocaleLanguages =
-            new ArrayList<>(Arrays.asList("ar", "my"));
+    // Number of years shown on each side of the focused month by initUnbounded(), far enough
+    // that the ends of the list are never reached in practice.
+    static final int UNBOUNDED_YEARS = 1000;
+
+    // Month ordinal of November 1582, the first month wholly after the Gregorian change. Grids use
+    // the proleptic Gregorian calendar, but titles and the Dates handed to listeners and filters
+    // go through java.util's Julian calendar before the change: initUnbounded() starts no earlier.
+    private static final int FIRST_GREGORIAN_MONTH_ORDINAL = CalendarDays.monthOrdinal(1582, Calendar.NOVEMBER);
+
+    // Kinds of month views, numbered per configuration for the whole process, see
+    // getMonthViewType().
+    private static final int NO_VIEW_TYPE = -1;
+    private static final Map<List<Object>, Integer> monthViewTypes = new HashMap<>();
+    // Last generation of decorations handed out to a picker, see decorationsGeneration. Pickers
+    // are only used on the main thread.
+    private static int lastDecorationsGeneration;
 
     private CalendarVertical calendarVertical = null;
     
     private final CalendarPickerView.MonthAdapter adapter;
-    private final IndexedLinkedHashMap<String, List<List<MonthCellDescriptor>>> cells =
-            new IndexedLinkedHashMap<>();
+    // Where the months are displayed, this ListView unless a CalendarRecyclerView took over.
+    private MonthHost host = new ListMonthHost();
+    // Months built and cached, selection and highlights, the selectable days coming from the filter.
+    private final CalendarState calendarState = new CalendarState(this::applySelectableState);
     final MonthView.Listener listener = new CellClickedListener();
-    final List<MonthDescriptor> months = new ArrayList<>();
-    final List<MonthCellDescriptor> selectedCells = new ArrayList<>();
-    final List<MonthCellDescriptor> highlightedCells = new ArrayList<>();
-    final List<Calendar> selectedCals = new ArrayList<>();
-    final List<Calendar> highlightedCals = new ArrayList<>();
+    // Number of months shown. Month descriptors and cells are only created for the displayed
+    // months, see CalendarState.getMonthCellsAt(), so this can be as large as an unbounded
+    // calendar needs.
+    private int monthCount;
     private Locale locale;
     private TimeZone timeZone;
-    private DateFormat weekdayNameFormat;
+    // Month titles, day names and numbers for the locale, time zone and digits mode.
+    private CalendarLabels labels;
+    // Day names month views show, in column order; computed when first needed.
+    private List<String> weekDaysNames;
     private DateFormat fullDateFormat;
-    private Calendar minCal;
-    private Calendar maxCal;
-    private Calendar monthCounter;
+    private ZoneDays zoneDays;
+    // First and last instants validateDate() accepts.
+    private long minMillis;
+    private long maxMillis;
     private boolean displayOnly;
     SelectionMode selectionMode;
     Calendar today;
+    // Epoch days of today and of the first and last selectable days, for cell state computations.
+    private int todayDay;
+    private int minDay;
+    private int maxDay;
+    private int firstDayOfWeek;
+    // Month ordinal (year * 12 + month) of the first month, month indexes are relative to it.
+    private int minMonthOrdinal;
     private int dayBackgroundResId;
     private int dayTextColorResId;
     private int titleTextStyle;
@@ -110,31 +132,85 @@ public class CalendarPickerView extends ListView {
     private OnDateSelectedListener dateListener;
     private OnRangeDateSelectedListener rangeDateListener;
     private DateSelectableFilter dateConfiguredListener;
+    // Days the filter was asked about and, among them, the days it accepted. They are asked a
+    // month at a time and remembered until invalidateSelectableDates() or a new filter.
+    private final DayBitSet filterCheckedDays = new DayBitSet();
+    private final DayBitSet filterAcceptedDays = new DayBitSet();
+    private final BitSet filterResults = new BitSet();
+    // When set, the filter is asked on it, and the months it is being asked about.
+    private Executor filterExecutor;
+    private final List<SelectabilityTask> selectabilityTasks = new ArrayList<>();
     private OnInvalidDateSelectedListener invalidDateListener =
             new DefaultOnInvalidDateSelectedListener();
     private CellClickInterceptor cellClickInterceptor;
     private List<CalendarCellDecorator> decorators;
+    private List<CalendarMonthDecorator> monthDecorators;
+    // Changed whenever the decorations must all be redone, see MonthView.setMonthDecorators().
+    // Drawn from a counter shared by every picker, as month views can move between pickers
+    // through a shared pool, so that a view never mistakes another picker's decorations for its own.
+    private int decorationsGeneration = nextDecorationsGeneration();
     private DayViewAdapter dayViewAdapter = new DefaultDayViewAdapter();
+    // Month views built in the background for the first months scrolled to, see createMonthView().
+    private MonthViewPool monthViewPool;
+    // Whether each month is drawn by a single view, see setDrawnMonths().
+    private boolean drawnMonths;
+    // Kind of the month views this picker creates, see getMonthViewType(), or NO_VIEW_TYPE until
+    // it is worked out again.
+    private int monthViewType = NO_VIEW_TYPE;
 
     private boolean monthsReverseOrder;
     private boolean isSelectingNext = false;
 
-    private final StringBuilder monthBuilder = new StringBuilder(50);
-    private Formatter monthFormatter;
-
     private FluentInitializer builderInstance;
+    // Incremented by each initialization, so that the result of an asynchronous one is dropped if
+    // another one started since.
+    private int initGeneration;
+    // Whether an asynchronous initialization is underway, see initAsync().
+    private boolean isInitPending;
+    // State restored while an asynchronous initialization was underway, restored again once its
+    // result is applied, see restoreState().
+    private SavedState pendingSavedState;
+    // Incremented by each scroll request, so that only the latest one posted is carried out.
+    private int scrollGeneration;
     
     public void setDecorators(List<CalendarCellDecorator> decorators) {
         this.decorators = decorators;
-        if (null != adapter) {
-            adapter.notifyDataSetChanged();
-        }
+        invalidateDecorations();
     }
 
     public List<CalendarCellDecorator> getDecorators() {
         return decorators;
     }
 
+    /**
+     * Set decorators that decorate a month's cells in one call. Unlike {@link CalendarCellDecorator}s,
+     * which run for every cell on every bind, they only get the cells whose day or state changed
+     * since they were last decorated; the other cells aren't bound again at all. Call
+     * {@link #invalidateDecorations()} when something else the decorations depend on changes.
+     * <p>
+     * Cells are bound and decorated as usual while {@link CalendarCellDecorator}s are set too.
+     */
+    public void setMonthDecorators(List<CalendarMonthDecorator> monthDecorators) {
+        this.monthDecorators = monthDecorators;
+        invalidateDecorations();
+    }
+
+    public List<CalendarMonthDecorator> getMonthDecorators() {
+        return monthDecorators;
+    }
+
+    /** Have every displayed cell decorated again, for when the decorations' own data changed. */
+    public void invalidateDecorations() {
+        decorationsGeneration = nextDecorationsGeneration();
+        if (null != adapter) {
+            validateAndUpdate();
+        }
+    }
+
+    private static int nextDecorationsGeneration() {
+        return ++lastDecorationsGeneration;
+    }
+
     public CalendarPickerView(Context context, AttributeSet attrs) {
         super(context, attrs);
 
@@ -151,6 +227,7 @@ public class CalendarPickerView extends ListView {
             displayAlwaysDigitNumbers = a.getBoolean(R.styleable.CalendarPickerView_calendarpicker_displayAlwaysDigitNumbers, false);
             autoInit = a.getBoolean(R.styleable.CalendarPickerView_calendarpicker_autoInit, false);
             initialMode = a.getInt(R.styleable.CalendarPickerView_calendarpicker_mode, 0);
+            drawnMonths = a.getBoolean(R.styleable.CalendarPickerView_calendarpicker_drawnMonths, false);
 
             int monthsTitleResId = a.getResourceId(R.styleable.CalendarVertical_calendarvert_months_title, 0);
 
@@ -215,19 +292,25 @@ public class CalendarPickerView extends ListView {
     }
     
     private void setupView(Context context, int bg) {
+        // Views built for the previous style are of no use anymore.
+        clearMonthViewPool();
         setDivider(null);
         setDividerHeight(0);
         setBackgroundColor(bg);
         setCacheColorHint(bg);
+        setRecyclerListener(view -> {
+            if (view instanceof MonthView) {
+                onMonthViewRecycled((MonthView) view);
+            }
+        });
         
         timeZone = TimeZone.getDefault();
         locale = Locale.getDefault();
+        zoneDays = new ZoneDays(timeZone);
         today = Calendar.getInstance(timeZone, locale);
-        minCal = Calendar.getInstance(timeZone, locale);
-        maxCal = Calendar.getInstance(timeZone, locale);
-        monthCounter = Calendar.getInstance(timeZone, locale);
-        weekdayNameFormat = new SimpleDateFormat(context.getString(R.string.day_name_format), locale);
-        weekdayNameFormat.setTimeZone(timeZone);
+        labels = CalendarLabels.get(
+                new ResourceLabelPatterns(getResources()), locale, timeZone, displayAlwaysDigitNumbers);
+        weekDaysNames = null;
         fullDateFormat = DateFormat.getDateInstance(DateFormat.MEDIUM, locale);
         fullDateFormat.setTimeZone(timeZone);
 
@@ -253,11 +336,19 @@ public class CalendarPickerView extends ListView {
         Date date1 = null;
         Date date2 = null;
 
-        if (!selectedCals.isEmpty()) {
-            date1 = selectedCals.get(0).getTime();
-        }
-        if (selectedCals.size() > 1) {
-            date2 = selectedCals.get(1).getTime();
+        SortedDays selectedDays = calendarState.selectedDays;
+        if (selectionMode == SelectionMode.RANGE) {
+            if (calendarState.getRangeStart() != CalendarDays.NO_DAY) {
+                date1 = zoneDays.toDate(calendarState.getRangeStart());
+            }
+            if (calendarState.getRangeEnd() != CalendarDays.NO_DAY) {
+                date2 = zoneDays.toDate(calendarState.getRangeEnd());
+            }
+        } else if (!selectedDays.isEmpty()) {
+            date1 = zoneDays.toDate(selectedDays.first());
+            if (selectedDays.size() > 1) {
+                date2 = zoneDays.toDate(selectedDays.get(1));
+            }
         }
         
         return new SelectedRange(date1, date2);
@@ -292,6 +383,88 @@ public class CalendarPickerView extends ListView {
      * @param maxDate Latest selectable date, exclusive.  Must be later than {@code minDate}.
      */
     public FluentInitializer init(Date minDate, Date maxDate, TimeZone timeZone, Locale locale) {
+        checkInitArguments(minDate, maxDate, timeZone, locale);
+        // An asynchronous initialization underway is superseded, along with the state held for it.
+        initGeneration++;
+        pendingSavedState = null;
+        CalendarLabels labels = CalendarLabels.get(
+                new ResourceLabelPatterns(getResources()), locale, timeZone, displayAlwaysDigitNumbers);
+        return applyBounds(new CalendarState.Bounds(minDate, maxDate, timeZone, locale, labels));
+    }
+
+    /**
+     * Same as {@link #init(Date, Date, TimeZone, Locale)}, but working out the calendar on
+     * {@code executor}: its labels for the locale, and the titles and grids of the first months.
+     * The result is then applied on the main thread at once, and {@code listener} is called with
+     * the {@link FluentInitializer} to go on with, the calendar being ready to display.
+     * <p>
+     * Until then, the calendar shows what it showed before, or no month at all if it wasn't
+     * initialized yet, and its selection, highlights and options are reset when the result is
+     * applied. A state restored by {@link #onRestoreInstanceState(Parcelable)} meanwhile is
+     * restored after the listener is called. A later initialization, synchronous or not,
+     * supersedes this one, whose listener is then never called. Arguments are checked right away.
+     * The {@link DateSelectableFilter} is asked as usual, see
+     * {@link #setDateSelectableExecutor(Executor)} for slow filters.
+     *
+     * @param minDate Earliest selectable date, inclusive.  Must be earlier than {@code maxDate}.
+     * @param maxDate Latest selectable date, exclusive.  Must be later than {@code minDate}.
+     * @param executor the executor to work out the calendar on
+     * @param listener called on the main thread once the calendar is ready, may be null
+     */
+    public void initAsync(
+            Date minDate, Date maxDate, TimeZone timeZone, Locale locale, Executor executor,
+            @Nullable OnCalendarReadyListener listener
+    ) {
+        initAsync(minDate, maxDate, timeZone, locale, null, executor, listener);
+    }
+
+    private void initAsync(
+            Date minDate, Date maxDate, TimeZone timeZone, Locale locale, @Nullable Date focusDate,
+            Executor executor, @Nullable OnCalendarReadyListener listener
+    ) {
+        checkInitArguments(minDate, maxDate, timeZone, locale);
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor is null.");
+        }
+
+        final int generation = ++initGeneration;
+        isInitPending = true;
+        // Dates are mutable: keep them as they are now.
+        final Date min = new Date(minDate.getTime());
+        final Date max = new Date(maxDate.getTime());
+        final Date focus = focusDate != null ? new Date(focusDate.getTime()) : min;
+        final Resources res = getResources();
+        final boolean alwaysDigitNumbers = displayAlwaysDigitNumbers;
+        final int preparedMonthCount = MonthViewPool.estimateCount(res.getDisplayMetrics());
+
+        executor.execute(() -> {
+            CalendarLabels labels =
+                    CalendarLabels.get(new ResourceLabelPatterns(res), locale, timeZone, alwaysDigitNumbers);
+            CalendarState.Bounds bounds = new CalendarState.Bounds(min, max, timeZone, locale, labels);
+            bounds.prepareMonths(bounds.zoneDays.fromDate(focus), preparedMonthCount);
+            host.post(() -> {
+                if (generation != initGeneration) {
+                    return;
+                }
+                FluentInitializer initializer = applyBounds(bounds);
+                SavedState savedState = pendingSavedState;
+                pendingSavedState = null;
+                // A restored scroll position supersedes the focused date.
+                if (focusDate != null && savedState == null) {
+                    scrollToDate(focus);
+                }
+                if (listener != null) {
+                    listener.onCalendarReady(initializer);
+                }
+                // Restored after the listener, as the state would be after an init() in onCreate().
+                if (savedState != null) {
+                    restoreState(savedState);
+                }
+            });
+        });
+    }
+
+    private static void checkInitArguments(Date minDate, Date maxDate, TimeZone timeZone, Locale locale) {
         if (minDate == null || maxDate == null) {
             throw new IllegalArgumentException(
                     "minDate and maxDate must be non-null.  " + dbg(minDate, maxDate));
@@ -306,62 +479,46 @@ public class CalendarPickerView extends ListView {
         if (timeZone == null) {
             throw new IllegalArgumentException("Time zone is null.");
         }
+    }
+
+    /** Make the calendar show the given bounds, with its state reset. */
+    private FluentInitializer applyBounds(CalendarState.Bounds bounds) {
+        isInitPending = false;
+        // Plain filters are asked again on each init(), bulk filters keep their answers until they
+        // are invalidated, unless the days now stand for other instants.
+        if (!(dateConfiguredListener instanceof BulkDateSelectableFilter) || !bounds.timeZone.equals(this.timeZone)) {
+            clearFilterResults();
+        }
+
+        cancelSelectabilityTasks();
 
         // Make sure that all calendar instances use the same time zone and locale.
-        this.timeZone = timeZone;
-        this.locale = locale;
-        today = Calendar.getInstance(timeZone, locale);
-        minCal = Calendar.getInstance(timeZone, locale);
-        maxCal = Calendar.getInstance(timeZone, locale);
-        monthCounter = Calendar.getInstance(timeZone, locale);
-        for (MonthDescriptor month : months) {
-            month.setLabel(formatMonthDate(month.getDate()));
-        }
-        weekdayNameFormat =
-                new SimpleDateFormat(getContext().getString(R.string.day_name_format), locale);
-        weekdayNameFormat.setTimeZone(timeZone);
-        fullDateFormat = DateFormat.getDateInstance(DateFormat.MEDIUM, locale);
-        fullDateFormat.setTimeZone(timeZone);
-        monthFormatter = new Formatter(monthBuilder, locale);
+        this.timeZone = bounds.timeZone;
+        this.locale = bounds.locale;
+        zoneDays = bounds.zoneDays;
+        today = bounds.today;
+        labels = bounds.labels;
+        weekDaysNames = null;
+        fullDateFormat = bounds.fullDateFormat;
 
         this.selectionMode = SelectionMode.SINGLE;
-        // Clear out any previously-selected dates/cells.
-        selectedCals.clear();
-        selectedCells.clear();
-        highlightedCals.clear();
-        highlightedCells.clear();
-
-        // Clear previous state.
-        cells.clear();
-        months.clear();
-        minCal.setTime(minDate);
-        maxCal.setTime(maxDate);
-        setMidnight(minCal);
-        setMidnight(maxCal);
+        // Clear previous state, selected and highlighted dates included.
+        calendarState.init(bounds);
         displayOnly = false;
 
-        // maxDate is exclusive: bump back to the previous day so if maxDate is the first of a month,
-        // we don't accidentally include that month in the view.
-        maxCal.add(MINUTE, -1);
+        todayDay = bounds.todayDay;
+        minDay = bounds.minDay;
+        maxDay = bounds.maxDay;
+        minMillis = bounds.minMillis;
+        maxMillis = bounds.maxMillis;
+        firstDayOfWeek = bounds.firstDayOfWeek;
+        minMonthOrdinal = bounds.minMonthOrdinal;
 
-        // Now iterate between minCal and maxCal and build up our list of months to show.
-        monthCounter.setTime(minCal.getTime());
-        
-        final int maxMonth = maxCal.get(MONTH);
-        final int maxYear = maxCal.get(YEAR);
-        
-        while ((monthCounter.get(MONTH) <= maxMonth // Up to, including the month.
-                || monthCounter.get(YEAR) < maxYear) // Up to the year.
-               && monthCounter.get(YEAR) < maxYear + 1) { // But not > next yr.
-            
-            Date date = monthCounter.getTime();
-            
-            MonthDescriptor month = new MonthDescriptor(monthCounter.get(MONTH), monthCounter.get(YEAR), date, formatMonthDate(date));
-            cells.put(monthKey(month), getMonthCells(month, monthCounter));
-            
-            months.add(month);
-            monthCounter.add(MONTH, 1);
-        }
+        monthCount = bounds.monthCount;
+
+        // Month views depend on the locale: keep those built if it didn't change, build new ones
+        // otherwise.
+        refreshMonthViewPool();
 
         validateAndUpdate();
 
@@ -444,12 +601,78 @@ public class CalendarPickerView extends ListView {
         return init(minDate, maxDate, TimeZone.getDefault(), locale);
     }
 
+    /**
+     * Initialize the calendar without a meaningful first or last month: it shows
+     * {@value #UNBOUNDED_YEARS} years before and after the month of {@code focusDate}, though not
+     * before November 1582 when the Gregorian calendar took effect, and starts scrolled to that
+     * month. Months are described and built as they are scrolled to and dropped once they are far
+     * from the screen, so memory use doesn't grow with the scroll distance.
+     * Selected and highlighted dates are kept apart from the months and survive their eviction.
+     * <p>
+     * This will implicitly set the {@link SelectionMode} to {@link SelectionMode#SINGLE}, like
+     * {@link #init(Date, Date, TimeZone, Locale)}. Every date in the shown months is selectable,
+     * unless a {@link DateSelectableFilter} says otherwise.
+     *
+     * @param focusDate Date whose month is shown first.
+     */
+    public FluentInitializer initUnbounded(Date focusDate, TimeZone timeZone, Locale locale) {
+        checkUnboundedArguments(focusDate, timeZone);
+        FluentInitializer initializer = init(
+                unboundedFirstDate(focusDate, timeZone), unboundedEndDate(focusDate, timeZone), timeZone, locale);
+        scrollToDate(focusDate);
+        return initializer;
+    }
+
+    /**
+     * Same as {@link #initUnbounded(Date, TimeZone, Locale)}, but working out the calendar on
+     * {@code executor}, see {@link #initAsync(Date, Date, TimeZone, Locale, Executor,
+     * OnCalendarReadyListener)}. The calendar is scrolled to the month of {@code focusDate} before
+     * {@code listener} is called.
+     */
+    public void initUnboundedAsync(
+            Date focusDate, TimeZone timeZone, Locale locale, Executor executor,
+            @Nullable OnCalendarReadyListener listener
+    ) {
+        checkUnboundedArguments(focusDate, timeZone);
+        initAsync(unboundedFirstDate(focusDate, timeZone), unboundedEndDate(focusDate, timeZone),
+                  timeZone, locale, focusDate, executor, listener);
+    }
+
+    private static void checkUnboundedArguments(Date focusDate, TimeZone timeZone) {
+        if (focusDate == null) {
+            throw new IllegalArgumentException("focusDate must be non-null.");
+        }
+        if (timeZone == null) {
+            throw new IllegalArgumentException("Time zone is null.");
+        }
+    }
+
+    private static Date unboundedFirstDate(Date focusDate, TimeZone timeZone) {
+        int focusMonthOrdinal = CalendarDays.monthOrdinal(CalendarDays.fromMillis(focusDate.getTime(), timeZone));
+        int firstMonthOrdinal = Math.max(focusMonthOrdinal - UNBOUNDED_YEARS * 12, FIRST_GREGORIAN_MONTH_ORDINAL);
+        return CalendarDays.toDate(CalendarDays.firstDayOfMonth(firstMonthOrdinal), timeZone);
+    }
+
+    private static Date unboundedEndDate(Date focusDate, TimeZone timeZone) {
+        int focusMonthOrdinal = CalendarDays.monthOrdinal(CalendarDays.fromMillis(focusDate.getTime(), timeZone));
+        return CalendarDays.toDate(CalendarDays.firstDayOfMonth(focusMonthOrdinal + UNBOUNDED_YEARS * 12 + 1), timeZone);
+    }
+
+    /**
+     * Same as {@link #initUnbounded(Date, TimeZone, Locale)}, using the default time zone and
+     * locale.
+     */
+    public FluentInitializer initUnbounded(Date focusDate) {
+        return initUnbounded(focusDate, TimeZone.getDefault(), Locale.getDefault());
+    }
+
     public class FluentInitializer {
 
         /** Override the {@link SelectionMode} from the default ({@link SelectionMode#SINGLE}). */
         public FluentInitializer inMode(SelectionMode mode) {
             selectionMode = mode;
-            validateAndUpdate();
+            calendarState.setRangeMode(mode == SelectionMode.RANGE);
+            rebindChangedCells();
             return this;
         }
 
@@ -505,8 +728,6 @@ public class CalendarPickerView extends ListView {
                 }
             }
             scrollToSelectedDates();
-
-            validateAndUpdate();
             return this;
         }
 
@@ -519,37 +740,181 @@ public class CalendarPickerView extends ListView {
             return withHighlightedDates(Collections.singletonList(date));
         }
 
+        /** Highlight every date from {@code start} to {@code end}, both inclusive. */
+        public FluentInitializer withHighlightedDateRange(Date start, Date end) {
+            highlightDateRange(start, end);
+            return this;
+        }
+
         @SuppressLint("SimpleDateFormat")
         public FluentInitializer setShortWeekdays(String[] newShortWeekdays) {
             DateFormatSymbols symbols = new DateFormatSymbols(locale);
             symbols.setShortWeekdays(newShortWeekdays);
-            weekdayNameFormat =
+            DateFormat weekdayNameFormat =
                     new SimpleDateFormat(getContext().getString(R.string.day_name_format), symbols);
+            weekDaysNames = MonthView.getWeekDaysNames(weekdayNameFormat, today, MonthView.isRtl(locale));
+            refreshMonthViewPool();
             return this;
         }
 
         public FluentInitializer displayOnly() {
             displayOnly = true;
+            validateAndUpdate();
             return this;
         }
 
         public FluentInitializer withMonthsReverseOrder(boolean monthsRevOrder) {
             monthsReverseOrder = monthsRevOrder;
+            validateAndUpdate();
             return this;
         }
 
         public FluentInitializer withMonthsTitle(List<String> titles) {
             adapter.setMonthsTitle(titles);
-            validateAndUpdate();
+            // Only the titles change.
+            ViewGroup monthParent = host.getMonthParent();
+            for (int i = 0; i < monthParent.getChildCount(); i++) {
+                View view = monthParent.getChildAt(i);
+                if (view instanceof MonthView && ((MonthView) view).getCells() != null) {
+                    MonthView monthView = (MonthView) view;
+                    monthView.updateMonthTitle(monthView.getCells().getMonth(), titles);
+                }
+            }
             return this;
         }
     }
 
+    @Override
+    protected Parcelable onSaveInstanceState() {
+        Parcelable superState = super.onSaveInstanceState();
+        SavedState state = saveState(superState);
+        if (state == null) {
+            return superState;
+        }
+        if (pendingSavedState == null && host.getMonthParent() == this && getChildCount() > 0) {
+            int position = getFirstVisiblePosition();
+            state.scrollMonthOrdinal = minMonthOrdinal + (monthsReverseOrder ? monthCount - position - 1 : position);
+            state.scrollOffset = getChildAt(0).getTop() - getPaddingTop();
+        }
+        return state;
+    }
+
+    @Override
+    protected void onRestoreInstanceState(Parcelable state) {
+        if (!(state instanceof SavedState)) {
+            super.onRestoreInstanceState(state);
+            return;
+        }
+
+        SavedState savedState = (SavedState) state;
+        super.onRestoreInstanceState(savedState.getSuperState());
+        restoreState(savedState);
+    }
+
+    /**
+     * Return the state of the calendar over {@code superState}, or null if it wasn't initialized.
+     * Days are saved as runs, so that long selections and highlights take a few ints.
+     */
+    @Nullable
+    SavedState saveState(Parcelable superState) {
+        if (pendingSavedState != null) {
+            // Saved again before it could be restored.
+            return pendingSavedState.copy(superState);
+        }
+        if (selectionMode == null) {
+            return null;
+        }
+
+        SavedState state = new SavedState(superState);
+        state.minDay = minDay;
+        state.maxDay = maxDay;
+        state.timeZoneId = timeZone.getID();
+        state.localeTag = locale.toLanguageTag();
+        state.selectionMode = selectionMode.ordinal();
+        state.displayOnly = displayOnly;
+        state.monthsReverseOrder = monthsReverseOrder;
+        state.isSelectingNext = isSelectingNext;
+        state.selectedRuns = calendarState.selectedDays.toRuns();
+        state.rangeStart = calendarState.getRangeStart();
+        state.rangeEnd = calendarState.getRangeEnd();
+        state.highlightedRuns = calendarState.highlightedDays.toRuns();
+        return state;
+    }
+
+    /**
+     * Restore the selection, highlights and options of a saved state. A calendar initialized since
+     * it was saved keeps its bounds, only the selected days within them being restored; otherwise
+     * it is initialized with the saved ones. Months are built as they are displayed, as usual.
+     * <p>
+     * While an asynchronous initialization is underway, the state is held and restored once its
+     * result is applied, after its listener is called, as applying it would reset the state.
+     */
+    void restoreState(SavedState state) {
+        if (isInitPending) {
+            pendingSavedState = state;
+            return;
+        }
+
+        if (selectionMode == null) {
+            TimeZone savedTimeZone = TimeZone.getTimeZone(state.timeZoneId);
+            init(CalendarDays.toDate(state.minDay, savedTimeZone), CalendarDays.toDate(state.maxDay + 1, savedTimeZone),
+                 savedTimeZone, Locale.forLanguageTag(state.localeTag));
+        }
+
+        selectionMode = SelectionMode.values()[state.selectionMode];
+        displayOnly = state.displayOnly;
+        monthsReverseOrder = state.monthsReverseOrder;
+        isSelectingNext = state.isSelectingNext;
+
+        calendarState.restore(selectionMode == SelectionMode.RANGE, state.selectedRuns, state.rangeStart,
+                              state.rangeEnd, state.highlightedRuns);
+        validateAndUpdate();
+
+        int index = state.scrollMonthOrdinal - minMonthOrdinal;
+        if (state.scrollMonthOrdinal != SavedState.NO_MONTH && index >= 0 && index < monthCount
+            && host.getMonthParent() == this) {
+            // Scrolls requested before, by init() for instance, are superseded.
+            scrollGeneration++;
+            setSelectionFromTop(monthsReverseOrder ? monthCount - index - 1 : index, state.scrollOffset);
+        }
+    }
+
     private void validateAndUpdate() {
-        if (getAdapter() == null) {
-            setAdapter(adapter);
+        host.notifyMonthsChanged();
+    }
+
+    /**
+     * Bind again the cells whose state changed in the built months, instead of rebinding every
+     * month: months that didn't change are left alone, and only the changed rows of the others are
+     * bound again, by adapter position so that the host reaches the views it keeps detached too.
+     */
+    private void rebindChangedCells() {
+        MonthCellsCache cells = calendarState.cells;
+        for (int i = 0; i < cells.size(); i++) {
+            MonthCells monthCells = cells.valueAt(i);
+            if (monthCells.hasChanges()) {
+                host.notifyCellsChanged(
+                        getMonthPosition(cells.keyAt(i)), monthCells,
+                        monthCells.getChangedFrom(), monthCells.getChangedTo());
+                monthCells.clearChanges();
+            }
         }
-        adapter.notifyDataSetChanged();
+    }
+
+    /**
+     * Return the adapter position of the month at the given index, which depends on the order. The
+     * mapping is its own inverse: it also returns the index of the month at a given position.
+     */
+    private int getMonthPosition(int index) {
+        return monthsReverseOrder ? monthCount - index - 1 : index;
+    }
+
+    /**
+     * Return the cells of the month at the given adapter position, see
+     * {@link CalendarState#getMonthCellsAt(int)}.
+     */
+    MonthCells getMonthCellsAtPosition(int position) {
+        return calendarState.getMonthCellsAt(getMonthPosition(position));
     }
 
     private void scrollToSelectedMonth(final int selectedIndex) {
@@ -557,58 +922,28 @@ public class CalendarPickerView extends ListView {
     }
 
     private void scrollToSelectedMonth(final int selectedIndex, final boolean smoothScroll) {
-        post(() -> {
-            if (smoothScroll) {
-                smoothScrollToPosition(selectedIndex);
-            } else {
-                setSelection(selectedIndex);
-            }
-        });
+        host.scrollToMonth(selectedIndex, smoothScroll);
     }
 
     private void scrollToSelectedDates() {
-        Integer selectedIndex = null;
-        Integer todayIndex = null;
-        Calendar today = Calendar.getInstance(timeZone, locale);
-
-        for (int c = 0; c < months.size(); c++) {
-            MonthDescriptor month = months.get(c);
-            if (selectedIndex == null) {
-                for (Calendar selectedCal : selectedCals) {
-                    if (sameMonth(selectedCal, month)) {
-                        selectedIndex = c;
-                        break;
-                    }
-                }
-
-                if (selectedIndex == null && todayIndex == null && sameMonth(today, month)) {
-                    todayIndex = c;
-                }
-            }
+        int selectedIndex = -1;
+        int firstSelectedDay = calendarState.getFirstSelectedDay();
+        if (firstSelectedDay != CalendarDays.NO_DAY) {
+            selectedIndex = getMonthIndex(firstSelectedDay);
         }
 
-        if (selectedIndex != null) {
+        if (selectedIndex < 0) {
+            selectedIndex = getMonthIndex(zoneDays.today());
+        }
+        if (selectedIndex >= 0) {
             scrollToSelectedMonth(selectedIndex);
-        } else if (todayIndex != null) {
-            scrollToSelectedMonth(todayIndex);
         }
     }
 
     public boolean scrollToDate(Date date) {
-        Integer selectedIndex = null;
-
-        Calendar cal = Calendar.getInstance(timeZone, locale);
-        cal.setTime(date);
+        int selectedIndex = getMonthIndex(toDay(date));
 
-        for (int c = 0; c < months.size(); c++) {
-            MonthDescriptor month = months.get(c);
-            if (sameMonth(cal, month)) {
-                selectedIndex = c;
-                break;
-            }
-        }
-
-        if (selectedIndex != null) {
+        if (selectedIndex >= 0) {
             scrollToSelectedMonth(selectedIndex);
             return true;
         }
@@ -636,7 +971,7 @@ public class CalendarPickerView extends ListView {
      */
     public void setTitleTypeface(Typeface titleTypeface) {
         this.titleTypeface = titleTypeface;
-        validateAndUpdate();
+        applyTypefaces();
     }
 
     /**
@@ -644,7 +979,18 @@ public class CalendarPickerView extends ListView {
      */
     public void setDateTypeface(Typeface dateTypeface) {
         this.dateTypeface = dateTypeface;
-        validateAndUpdate();
+        applyTypefaces();
+    }
+
+    /** Apply the typefaces to the attached months, others get them when they are bound. */
+    private void applyTypefaces() {
+        ViewGroup monthParent = host.getMonthParent();
+        for (int i = 0; i < monthParent.getChildCount(); i++) {
+            View view = monthParent.getChildAt(i);
+            if (view instanceof MonthView) {
+                ((MonthView) view).setTypefaces(titleTypeface, dateTypeface);
+            }
+        }
     }
 
     /**
@@ -668,22 +1014,39 @@ public class CalendarPickerView extends ListView {
 
     @Override
     protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
-        if (months.isEmpty()) {
+        // Until an asynchronous initialization is applied, the list is measured empty.
+        if (monthCount == 0 && !isInitPending) {
             throw new IllegalStateException("Must have at least one month to display.  Did you forget to call init()?");
         }
         super.onMeasure(widthMeasureSpec, heightMeasureSpec);
     }
 
     public Date getSelectedDate() {
-        return (selectedCals.size() > 0 ? selectedCals.get(0).getTime() : null);
+        int firstSelectedDay = calendarState.getFirstSelectedDay();
+        return firstSelectedDay == CalendarDays.NO_DAY ? null : zoneDays.toDate(firstSelectedDay);
     }
 
     public List<Date> getSelectedDates() {
         List<Date> selectedDates = new ArrayList<>();
-        for (MonthCellDescriptor cal : selectedCells) {
-            selectedDates.add(cal.getDate());
+
+        if (selectionMode == SelectionMode.RANGE) {
+            int rangeStart = calendarState.getRangeStart();
+            int rangeEnd = calendarState.getRangeEnd();
+            if (rangeStart != CalendarDays.NO_DAY) {
+                // The range ends plus every selectable day in between them.
+                int lastDay = rangeEnd == CalendarDays.NO_DAY ? rangeStart : rangeEnd;
+                for (int day = rangeStart; day <= lastDay; day++) {
+                    if (day == rangeStart || day == lastDay || isDaySelectable(day)) {
+                        selectedDates.add(zoneDays.toDate(day));
+                    }
+                }
+            }
+        } else {
+            SortedDays selectedDays = calendarState.selectedDays;
+            for (int i = 0; i < selectedDays.size(); i++) {
+                selectedDates.add(zoneDays.toDate(selectedDays.get(i)));
+            }
         }
-        Collections.sort(selectedDates);
         return selectedDates;
     }
 
@@ -692,14 +1055,6 @@ public class CalendarPickerView extends ListView {
         return "minDate: " + minDate + "\nmaxDate: " + maxDate;
     }
 
-    /** Clears out the hours/minutes/seconds/millis of a Calendar. */
-    static void setMidnight(Calendar cal) {
-        cal.set(HOUR_OF_DAY, 0);
-        cal.set(MINUTE, 0);
-        cal.set(SECOND, 0);
-        cal.set(MILLISECOND, 0);
-    }
-
     private class CellClickedListener implements MonthView.Listener {
 
         @Override
@@ -709,12 +1064,16 @@ public class CalendarPickerView extends ListView {
             if (cellClickInterceptor != null && cellClickInterceptor.onCellClicked(clickedDate)) {
                 return;
             }
-            if (!betweenDates(clickedDate, minCal, maxCal) || !isDateSelectable(clickedDate)) {
+            if (cell.isPending()) {
+                // Whether the day can be selected isn't known yet.
+                return;
+            }
+            if (!isDaySelectable(toDay(clickedDate))) {
                 if (invalidDateListener != null) {
                     invalidDateListener.onInvalidDateSelected(clickedDate);
                 }
             } else {
-                boolean wasSelected = doSelectDate(clickedDate, cell);
+                boolean wasSelected = doSelectDate(clickedDate);
 
                 if (dateListener != null) {
                     if (wasSelected) {
@@ -724,17 +1083,8 @@ public class CalendarPickerView extends ListView {
                     }
                 }
                 if (rangeDateListener != null) {
-                    Date date1 = null;
-                    Date date2 = null;
-                    
-                    if (!selectedCals.isEmpty()) {
-                        date1 = selectedCals.get(0).getTime();
-                    }
-                    if (selectedCals.size() > 1) {
-                        date2 = selectedCals.get(1).getTime();
-                    }
-                    
-                    rangeDateListener.onRangeSelected(date1, date2);
+                    SelectedRange selectedRange = getSelectedRange();
+                    rangeDateListener.onRangeSelected(selectedRange.getDateStart(), selectedRange.getDateEnd());
                 }
             }
         }
@@ -769,301 +1119,346 @@ public class CalendarPickerView extends ListView {
     public boolean selectDate(Date date, boolean smoothScroll) {
         validateDate(date);
 
-        MonthCellWithMonthIndex monthCellWithMonthIndex = getMonthCellWithIndexByDate(date);
-        if (monthCellWithMonthIndex == null || !isDateSelectable(date)) {
+        int monthIndex = getSelectableMonthIndexByDate(date);
+        if (monthIndex < 0) {
             return false;
         }
-        boolean wasSelected = doSelectDate(date, monthCellWithMonthIndex.cell);
+        boolean wasSelected = doSelectDate(date);
         if (wasSelected) {
-            scrollToSelectedMonth(monthCellWithMonthIndex.monthIndex, smoothScroll);
+            scrollToSelectedMonth(monthIndex, smoothScroll);
         }
         return wasSelected;
     }
 
-    /**
-     * Use {@link DateUtils} to format the dates.
-     *
-     * @see DateUtils
-     */
-    private String formatMonthDate(Date date) {
-        int flags = DateUtils.FORMAT_SHOW_DATE | DateUtils.FORMAT_SHOW_YEAR
-                    | DateUtils.FORMAT_NO_MONTH_DAY;
-
-        // Save default Locale
-        Locale defaultLocale = Locale.getDefault();
-
-        // Set new default Locale, the reason to do that is DateUtils.formatDateTime uses
-        // internally this method DateIntervalFormat.formatDateRange to format the date. And this
-        // method uses the default locale.
-        //
-        // More details about the methods:
-        // - DateUtils.formatDateTime: https://goo.gl/3YW52Q
-        // - DateIntervalFormat.formatDateRange: https://goo.gl/RRmfK7
-        Locale.setDefault(locale);
-
-        String dateFormatted;
-        if (displayAlwaysDigitNumbers
-            && explicitlyNumericYearLocaleLanguages.contains(locale.getLanguage())) {
-            StringBuilder sb = new StringBuilder();
-            SimpleDateFormat sdfMonth = new SimpleDateFormat(getContext()
-                                                                     .getString(R.string.month_only_name_format),
-                                                             locale);
-            SimpleDateFormat sdfYear = new SimpleDateFormat(getContext()
-                                                                    .getString(R.string.year_only_format),
-                                                            Locale.ENGLISH);
-            dateFormatted = sb.append(sdfMonth.format(date.getTime())).append(" ")
-                              .append(sdfYear.format(date.getTime())).toString();
-        } else {
-            // Format date using the new Locale
-            dateFormatted = DateUtils.formatDateRange(getContext(), monthFormatter,
-                                                      date.getTime(), date.getTime(), flags, timeZone.getID())
-                                     .toString();
-        }
-        // Call setLength(0) on StringBuilder passed to the Formatter constructor to not accumulate
-        // the results
-        monthBuilder.setLength(0);
-
-        // Restore default Locale to avoid generating any side effects
-        Locale.setDefault(defaultLocale);
-
-        return dateFormatted;
-    }
-
     private void validateDate(Date date) {
         if (date == null) {
             throw new IllegalArgumentException("Selected date must be non-null.");
         }
-        if (date.before(minCal.getTime()) || date.after(maxCal.getTime())) {
+        if (date.getTime() < minMillis || date.getTime() > maxMillis) {
             throw new IllegalArgumentException(String.format(
                     "SelectedDate must be between minDate and maxDate."
-                    + "%nminDate: %s%nmaxDate: %s%nselectedDate: %s", minCal.getTime(), maxCal.getTime(),
+                    + "%nminDate: %s%nmaxDate: %s%nselectedDate: %s", new Date(minMillis), new Date(maxMillis),
                     date));
         }
     }
 
-    private boolean doSelectDate(Date date, MonthCellDescriptor cell) {
-        Calendar newlySelectedCal = Calendar.getInstance(timeZone, locale);
-        newlySelectedCal.setTime(date);
-        // Sanitize input: clear out the hours/minutes/seconds/millis.
-        setMidnight(newlySelectedCal);
-
-        // Clear any remaining range state.
-        for (MonthCellDescriptor selectedCell : selectedCells) {
-            selectedCell.setRangeState(RangeState.NONE);
+    /** Check that epoch days are sorted and, thanks to that, that the first and last are in range. */
+    private void validateDays(int[] epochDays) {
+        for (int i = 1; i < epochDays.length; i++) {
+            if (epochDays[i] < epochDays[i - 1]) {
+                throw new IllegalArgumentException("epochDays must be sorted in ascending order.");
+            }
+        }
+        if (epochDays.length > 0
+            && (epochDays[0] < minDay || epochDays[epochDays.length - 1] > maxDay)) {
+            throw new IllegalArgumentException(String.format(
+                    "epochDays must be between minDate and maxDate."
+                    + "%nminDate: %s%nmaxDate: %s", new Date(minMillis), new Date(maxMillis)));
         }
+    }
+
+    /** Return the epoch day of a date in the calendar time zone. */
+    private int toDay(Date date) {
+        return zoneDays.fromDate(date);
+    }
+
+    private boolean doSelectDate(Date date) {
+        // Sanitize input: only the day matters, not the hours/minutes/seconds/millis.
+        int day = toDay(date);
+        boolean wasSelected = true;
 
         switch (selectionMode) {
             case RANGE:
-                if (selectedCals.size() <= 1) {
-                    isSelectingNext = false;
-                }
-
-                if (selectedCals.size() > 1) {
-                    MonthCellDescriptor cell1 = selectedCells.get(0);
-                    Calendar cal1 = selectedCals.get(0);
-                    
-                    // We've already got a range selected: clear the old one.
-                    clearOldSelections();
-                    
-                    if (isSelectingNext) {
-                        isSelectingNext = false;
-                        cell1.setSelected(true);
-
-                        selectedCells.add(cell1);
-                        selectedCals.add(cal1);
-                    }
+                boolean isRangeComplete = calendarState.getRangeEnd() != CalendarDays.NO_DAY;
+                if (isRangeComplete) {
+                    // We've already got a range selected: the old one is cleared.
+                    notifyOldSelectionsUnselected();
                 }
+                calendarState.selectRangeDay(day, isRangeComplete && isSelectingNext);
+                isSelectingNext = false;
                 break;
 
             case MULTIPLE:
-                date = applyMultiSelect(date, newlySelectedCal);
+                // An already selected date is de-selected.
+                wasSelected = calendarState.toggleDay(day);
                 break;
 
             case SINGLE:
-                clearOldSelections();
+                notifyOldSelectionsUnselected();
+                calendarState.selectSingleDay(day);
                 break;
             default:
                 throw new IllegalStateException("Unknown selectionMode " + selectionMode);
         }
 
-        if (date != null) {
-            // Select a new cell.
-            if (selectedCals.size() == 1 && newlySelectedCal.before(selectedCals.get(0))) {
-                // We're moving the start of the range back in time: set next date as first date range
-                if (selectedCells.isEmpty() || !selectedCells.get(0).equals(cell)) {
-                    selectedCells.add(0, cell);
-                    cell.setSelected(true);
+        // Cells that are not built yet will pick the new selection up when they are.
+        rebindChangedCells();
+        return wasSelected;
+    }
+
+    /** Tell the date listener that the selected dates are about to be unselected. */
+    private void notifyOldSelectionsUnselected() {
+        if (dateListener != null) {
+            if (selectionMode == SelectionMode.RANGE) {
+                // Only the range ends were selected by the user.
+                if (calendarState.getRangeStart() != CalendarDays.NO_DAY) {
+                    dateListener.onDateUnselected(zoneDays.toDate(calendarState.getRangeStart()));
                 }
-                
-                selectedCals.add(0, newlySelectedCal);
-            } else {
-                if (selectedCells.isEmpty() || !selectedCells.get(0).equals(cell)) {
-                    selectedCells.add(cell);
-                    cell.setSelected(true);
+                if (calendarState.getRangeEnd() != CalendarDays.NO_DAY) {
+                    dateListener.onDateUnselected(zoneDays.toDate(calendarState.getRangeEnd()));
                 }
-                
-                selectedCals.add(newlySelectedCal);
-            }
-            
-            if (selectionMode == SelectionMode.RANGE && selectedCells.size() > 1) {
-                // Select all days in between start and end.
-                Date start = selectedCells.get(0).getDate();
-                Date end = selectedCells.get(1).getDate();
-                selectedCells.get(0).setRangeState(RangeState.FIRST);
-                selectedCells.get(1).setRangeState(RangeState.LAST);
-
-                int startMonthIndex = cells.getIndexOfKey(monthKey(selectedCals.get(0)));
-                int endMonthIndex = cells.getIndexOfKey(monthKey(selectedCals.get(1)));
-                for (int monthIndex = startMonthIndex; monthIndex <= endMonthIndex; monthIndex++) {
-                    List<List<MonthCellDescriptor>> month = cells.getValueAtIndex(monthIndex);
-                    for (List<MonthCellDescriptor> week : month) {
-                        for (MonthCellDescriptor singleCell : week) {
-                            if (singleCell.getDate().after(start)
-                                && singleCell.getDate().before(end)
-                                && singleCell.isSelectable()) {
-                                singleCell.setSelected(true);
-                                singleCell.setRangeState(RangeState.MIDDLE);
-                                selectedCells.add(singleCell);
-                            }
-                        }
-                    }
+            } else {
+                SortedDays selectedDays = calendarState.selectedDays;
+                for (int i = 0; i < selectedDays.size(); i++) {
+                    dateListener.onDateUnselected(zoneDays.toDate(selectedDays.get(i)));
                 }
             }
         }
-
-        // Update the adapter.
-        validateAndUpdate();
-        return date != null;
     }
 
-    private String monthKey(Calendar cal) {
-        return cal.get(YEAR) + "-" + cal.get(MONTH);
+    /**
+     * Highlight the given dates. All dates are validated first, then the highlights are updated in a
+     * single pass and the calendar is refreshed once.
+     */
+    public void highlightDates(Collection<Date> dates) {
+        for (Date date : dates) {
+            validateDate(date);
+        }
+        calendarState.highlightDates(dates);
+        rebindChangedCells();
     }
 
-    private String monthKey(MonthDescriptor month) {
-        return month.getYear() + "-" + month.getMonth();
-    }
+    /** Highlight every date from {@code start} to {@code end}, both inclusive. */
+    public void highlightDateRange(Date start, Date end) {
+        validateDate(start);
+        validateDate(end);
+        if (start.after(end)) {
+            throw new IllegalArgumentException("start must not be after end.  " + dbg(start, end));
+        }
 
-    private void clearOldSelections() {
-        for (MonthCellDescriptor selectedCell : selectedCells) {
-            // De-select the currently-selected cell.
-            selectedCell.setSelected(false);
+        calendarState.highlightDayRange(toDay(start), toDay(end));
+        rebindChangedCells();
+    }
 
-            if (dateListener != null) {
-                Date selectedDate = selectedCell.getDate();
+    /**
+     * Highlight the given days, as epoch days in the calendar time zone (days since 1970-01-01, like
+     * {@code LocalDate.toEpochDay()}). The days must be sorted in ascending order.
+     */
+    public void highlightDays(int[] epochDays) {
+        validateDays(epochDays);
+        calendarState.highlightDays(epochDays);
+        rebindChangedCells();
+    }
 
-                if (selectionMode == SelectionMode.RANGE) {
-                    int index = selectedCells.indexOf(selectedCell);
-                    if (index == 0 || index == selectedCells.size() - 1) {
-                        dateListener.onDateUnselected(selectedDate);
-                    }
-                } else {
-                    dateListener.onDateUnselected(selectedDate);
-                }
-            }
+    /** Remove the highlight of the given dates, keeping any other highlighted date. */
+    public void unhighlightDates(Collection<Date> dates) {
+        for (Date date : dates) {
+            validateDate(date);
         }
-        selectedCells.clear();
-        selectedCals.clear();
+        calendarState.unhighlightDates(dates);
+        rebindChangedCells();
     }
 
-    private Date applyMultiSelect(Date date, Calendar selectedCal) {
-        for (MonthCellDescriptor selectedCell : selectedCells) {
-            if (selectedCell.getDate().equals(date)) {
-                // De-select the currently-selected cell.
-                selectedCell.setSelected(false);
-                selectedCells.remove(selectedCell);
-                date = null;
-                break;
-            }
-        }
-        for (Calendar cal : selectedCals) {
-            if (sameDate(cal, selectedCal)) {
-                selectedCals.remove(cal);
-                break;
-            }
+    /** Remove the highlight of every date from {@code start} to {@code end}, both inclusive. */
+    public void unhighlightDateRange(Date start, Date end) {
+        validateDate(start);
+        validateDate(end);
+        if (start.after(end)) {
+            throw new IllegalArgumentException("start must not be after end.  " + dbg(start, end));
         }
-        return date;
+
+        calendarState.unhighlightDayRange(toDay(start), toDay(end));
+        rebindChangedCells();
     }
 
-    public void highlightDates(Collection<Date> dates) {
-        for (Date date : dates) {
-            validateDate(date);
+    /**
+     * Remove the highlight of the given epoch days, see {@link #highlightDays(int[])}. The days must
+     * be sorted in ascending order.
+     */
+    public void unhighlightDays(int[] epochDays) {
+        validateDays(epochDays);
+        calendarState.unhighlightDays(epochDays);
+        rebindChangedCells();
+    }
 
-            MonthCellWithMonthIndex monthCellWithMonthIndex = getMonthCellWithIndexByDate(date);
-            if (monthCellWithMonthIndex != null) {
-                Calendar newlyHighlightedCal = Calendar.getInstance(timeZone, locale);
-                newlyHighlightedCal.setTime(date);
-                MonthCellDescriptor cell = monthCellWithMonthIndex.cell;
+    public void clearSelectedDates() {
+        notifyOldSelectionsUnselected();
+        calendarState.clearSelection();
+        calendarState.refreshCachedCells();
+        rebindChangedCells();
+    }
 
-                highlightedCells.add(cell);
-                highlightedCals.add(newlyHighlightedCal);
-                cell.setHighlighted(true);
-            }
+    public void clearHighlightedDates() {
+        calendarState.clearHighlights();
+        rebindChangedCells();
+    }
+
+    /**
+     * Return the month-index (for scrolling) of a given Date, or -1 if the date is out of range or
+     * can't be selected.
+     */
+    private int getSelectableMonthIndexByDate(Date date) {
+        int day = toDay(date);
+
+        if (!isDaySelectable(day)) {
+            return -1;
         }
+        return getMonthIndex(day);
+    }
 
-        validateAndUpdate();
+    /** Return the month-index of a given epoch day, or -1 if its month is not displayed. */
+    private int getMonthIndex(int epochDay) {
+        int index = CalendarDays.monthOrdinal(epochDay) - minMonthOrdinal;
+        return index >= 0 && index < monthCount ? index : -1;
     }
 
-    public void clearSelectedDates() {
-        for (MonthCellDescriptor selectedCell : selectedCells) {
-            selectedCell.setRangeState(RangeState.NONE);
+    /** Return the number of months displayed. */
+    int getMonthCount() {
+        return monthCount;
+    }
+
+    /**
+     * Return the kind of {@link MonthView}s this picker creates: views of the same kind are
+     * interchangeable, even between pickers. Each configuration baked into the views gets its own
+     * kind, so that a view pool shared between pickers never hands out views styled differently.
+     */
+    int getMonthViewType() {
+        if (monthViewType == NO_VIEW_TYPE) {
+            // Everything setUpMonthView() and createMonthView() bake into a view, as plain values:
+            // the registry lives as long as the process, it mustn't keep classes, labels or the
+            // day names of a picker alive.
+            List<String> weekDaysNames = getDisplayedWeekDaysNames();
+            List<Object> configuration = Arrays.asList(
+                    dayViewAdapter.getClass().getName(), drawnMonths,
+                    weekDaysNames != null ? new ArrayList<>(weekDaysNames) : null, labels.getKey(),
+                    dayBackgroundResId, dayTextColorResId, titleTextStyle, displayHeader, headerTextColor);
+            monthViewType = getMonthViewType(configuration);
+        }
+        return monthViewType;
+    }
+
+    private static synchronized int getMonthViewType(List<Object> configuration) {
+        Integer type = monthViewTypes.get(configuration);
+        if (type == null) {
+            type = monthViewTypes.size();
+            monthViewTypes.put(configuration, type);
+        }
+        return type;
+    }
+
+    /** Create a view for the months of this picker, see {@link #bindMonthView(MonthView, int)}. */
+    MonthView createMonthView(ViewGroup parent) {
+        if (drawnMonths) {
+            MonthView monthView =
+                    DrawnMonthView.create(parent.getContext(), getDisplayedWeekDaysNames(), listener,
+                                          dayBackgroundResId, dayTextColorResId, titleTextStyle, displayHeader,
+                                          headerTextColor, decorators, labels, dayViewAdapter);
+            monthView.setTag(R.id.day_view_adapter_class, dayViewAdapter.getClass());
+            return monthView;
         }
 
-        clearOldSelections();
-        validateAndUpdate();
+        MonthView monthView = monthViewPool != null ? monthViewPool.take() : null;
+        if (monthView == null) {
+            monthView = (MonthView) LayoutInflater.from(parent.getContext()).inflate(R.layout.month, parent, false);
+            setUpMonthView(monthView);
+        }
+        monthView.setTag(R.id.day_view_adapter_class, dayViewAdapter.getClass());
+        return monthView;
     }
 
-    public void clearHighlightedDates() {
-        for (MonthCellDescriptor cal : highlightedCells) {
-            cal.setHighlighted(false);
+    /**
+     * Start building, in the background, the month views the first screens of months will need,
+     * so that {@link #createMonthView(ViewGroup)} doesn't have to inflate them while scrolling.
+     */
+    private void prefillMonthViewPool() {
+        // Drawn months are cheap enough to create when needed.
+        if (monthCount == 0 || drawnMonths) {
+            if (monthViewPool != null) {
+                monthViewPool.clear();
+            }
+            return;
+        }
+        if (monthViewPool == null) {
+            monthViewPool = new MonthViewPool(getContext(), this::setUpMonthView);
         }
-        highlightedCells.clear();
-        highlightedCals.clear();
+        int count = MonthViewPool.estimateCount(getResources().getDisplayMetrics());
+        monthViewPool.prefill(host.getMonthParent(), getMonthViewType(), Math.min(count, monthCount));
+    }
 
-        validateAndUpdate();
+    /**
+     * Have the month views built in the background fit this picker again, after something baked
+     * into them may have changed: they are kept if they still fit, and built again otherwise.
+     */
+    private void refreshMonthViewPool() {
+        // Views created from now on may be set up differently.
+        monthViewType = NO_VIEW_TYPE;
+        prefillMonthViewPool();
     }
 
-    /** Hold a cell with a month-index. */
-    private static class MonthCellWithMonthIndex {
+    /** Set up a view inflated from {@code R.layout.month} for this picker. */
+    private void setUpMonthView(MonthView monthView) {
+        MonthView.setUp(monthView, getDisplayedWeekDaysNames(), listener,
+                        dayBackgroundResId, dayTextColorResId, titleTextStyle, displayHeader,
+                        headerTextColor, decorators, labels, dayViewAdapter);
+    }
 
-        MonthCellDescriptor cell;
-        int monthIndex;
+    /** Return the day names month views show, in column order, or null if they show none. */
+    private List<String> getDisplayedWeekDaysNames() {
+        if (!displayDayNamesHeaderRow || displayDayNamesAsCalendarHeader) {
+            return null;
+        }
+        if (weekDaysNames == null) {
+            weekDaysNames = labels.getWeekDaysNames(today.getFirstDayOfWeek(), MonthView.isRtl(locale));
+        }
+        return weekDaysNames;
+    }
 
-        MonthCellWithMonthIndex(MonthCellDescriptor cell, int monthIndex) {
-            this.cell = cell;
-            this.monthIndex = monthIndex;
+    private void clearMonthViewPool() {
+        // Views created from now on may be set up differently.
+        monthViewType = NO_VIEW_TYPE;
+        if (monthViewPool != null) {
+            monthViewPool.clear();
         }
     }
 
-    /** Return cell and month-index (for scrolling) for a given Date. */
-    private MonthCellWithMonthIndex getMonthCellWithIndexByDate(Date date) {
-        Calendar searchCal = Calendar.getInstance(timeZone, locale);
-        searchCal.setTime(date);
-        String monthKey = monthKey(searchCal);
-        Calendar actCal = Calendar.getInstance(timeZone, locale);
+    /** Bind a view created by {@link #createMonthView(ViewGroup)} to the month at {@code position}. */
+    void bindMonthView(MonthView monthView, int position) {
+        // The view may come from a pool shared with other pickers.
+        monthView.setListener(listener);
+        monthView.setDecorators(decorators);
+        monthView.setMonthDecorators(monthDecorators, decorationsGeneration);
 
-        int index = cells.getIndexOfKey(monthKey);
-        List<List<MonthCellDescriptor>> monthCells = cells.get(monthKey);
-        for (List<MonthCellDescriptor> weekCells : monthCells) {
-            for (MonthCellDescriptor actCell : weekCells) {
-                actCal.setTime(actCell.getDate());
-                if (sameDate(actCal, searchCal) && actCell.isSelectable()) {
-                    return new MonthCellWithMonthIndex(actCell, index);
-                }
-            }
+        MonthCells monthCells = getMonthCellsAtPosition(position);
+        monthView.init(
+                monthCells.getMonth(),
+                monthCells,
+                displayOnly,
+                titleTypeface,
+                dateTypeface,
+                adapter.monthsTitle
+        );
+    }
+
+    /** Let go of a month view that scrolled away and is about to be bound to another month. */
+    void onMonthViewRecycled(MonthView monthView) {
+        // Its month doesn't need to know its selectable days anymore.
+        if (monthView.getCells() != null) {
+            cancelSelectabilityTask(monthView.getCells());
         }
-        return null;
+    }
+
+    /** Display the months in {@code host} rather than in this view, see {@link CalendarRecyclerView}. */
+    void setMonthHost(MonthHost host) {
+        this.host = host;
+        // Have the views built in the background laid out for their new parent.
+        refreshMonthViewPool();
+        host.notifyMonthsChanged();
     }
 
     private class MonthAdapter extends BaseAdapter {
 
-        private final LayoutInflater inflater;
         private List<String> monthsTitle;
 
-        private MonthAdapter() {
-            inflater = LayoutInflater.from(getContext());
-        }
-
         @Override
         public boolean isEnabled(int position) {
             // Disable selectability: each cell will handle that itself.
@@ -1072,12 +1467,12 @@ public class CalendarPickerView extends ListView {
 
         @Override
         public int getCount() {
-            return months.size();
+            return monthCount;
         }
 
         @Override
         public Object getItem(int position) {
-            return months.get(position);
+            return calendarState.getMonthCellsAt(position).getMonth();
         }
 
         @Override
@@ -1094,139 +1489,226 @@ public class CalendarPickerView extends ListView {
             MonthView monthView = (MonthView) convertView;
 
             if (monthView == null //
-                || !monthView.getTag(R.id.day_view_adapter_class).equals(dayViewAdapter.getClass())) {
-                monthView =
-                        MonthView.create(parent, inflater, weekdayNameFormat, listener, today,
-                                         dayBackgroundResId, dayTextColorResId, titleTextStyle, displayHeader,
-                                         headerTextColor, displayDayNamesHeaderRow, displayDayNamesAsCalendarHeader,
-                                         displayAlwaysDigitNumbers, decorators, locale, dayViewAdapter);
-                monthView.setTag(R.id.day_view_adapter_class, dayViewAdapter.getClass());
-            } else {
-                monthView.setDecorators(decorators);
+                || !monthView.getTag(R.id.day_view_adapter_class).equals(dayViewAdapter.getClass())
+                || monthView instanceof DrawnMonthView != drawnMonths) {
+                monthView = createMonthView(parent);
             }
+            bindMonthView(monthView, position);
 
-            if (monthsReverseOrder) {
-                position = months.size() - position - 1;
-            }
-            
-            monthView.init(
-                    months.get(position),
-                    cells.getValueAtIndex(position),
-                    displayOnly,
-                    titleTypeface,
-                    dateTypeface,
-                    monthsTitle
-            );
-            
             return monthView;
         }
     }
 
-    List<List<MonthCellDescriptor>> getMonthCells(MonthDescriptor month, Calendar startCal) {
-        Calendar cal = Calendar.getInstance(timeZone, locale);
-        cal.setTime(startCal.getTime());
-        List<List<MonthCellDescriptor>> cells = new ArrayList<>();
-        cal.set(DAY_OF_MONTH, 1);
-        int firstDayOfWeek = cal.get(DAY_OF_WEEK);
-        int offset = cal.getFirstDayOfWeek() - firstDayOfWeek;
-        if (offset > 0) {
-            offset -= 7;
-        }
-        cal.add(Calendar.DATE, offset);
-
-        Calendar minSelectedCal = minDate(selectedCals);
-        Calendar maxSelectedCal = maxDate(selectedCals);
-
-        while ((cal.get(MONTH) < month.getMonth() + 1 || cal.get(YEAR) < month.getYear()) //
-               && cal.get(YEAR) <= month.getYear()) {
-            List<MonthCellDescriptor> weekCells = new ArrayList<>();
-            cells.add(weekCells);
-            for (int c = 0; c < 7; c++) {
-                Date date = cal.getTime();
-                @SuppressWarnings("MagicConstant")
-                boolean isCurrentMonth = cal.get(MONTH) == month.getMonth();
-                boolean isSelected = isCurrentMonth && containsDate(selectedCals, cal);
-                boolean isSelectable =
-                        isCurrentMonth && betweenDates(cal, minCal, maxCal) && isDateSelectable(date);
-                boolean isToday = sameDate(cal, today);
-                boolean isHighlighted = containsDate(highlightedCals, cal);
-                int value = cal.get(DAY_OF_MONTH);
-
-                RangeState rangeState = RangeState.NONE;
-                if (selectedCals.size() > 1) {
-                    if (sameDate(minSelectedCal, cal)) {
-                        rangeState = RangeState.FIRST;
-                    } else if (sameDate(maxDate(selectedCals), cal)) {
-                        rangeState = RangeState.LAST;
-                    } else if (betweenDates(cal, minSelectedCal, maxSelectedCal)) {
-                        rangeState = RangeState.MIDDLE;
-                    }
-                }
+    /** Displays the months in this ListView. */
+    private class ListMonthHost implements MonthHost {
+
+        @Override
+        public ViewGroup getMonthParent() {
+            return CalendarPickerView.this;
+        }
 
-                weekCells.add(
-                        new MonthCellDescriptor(date, isCurrentMonth, isSelectable, isSelected, isToday,
-                                                isHighlighted, value, rangeState));
-                cal.add(DATE, 1);
+        @Override
+        public void notifyMonthsChanged() {
+            if (getAdapter() == null) {
+                setAdapter(adapter);
             }
+            adapter.notifyDataSetChanged();
+        }
+
+        @Override
+        public void notifyCellsChanged(int position, MonthCells monthCells, int fromIndex, int toIndex) {
+            // Views that aren't attached are bound again by getView() anyway.
+            int childIndex = position - getFirstVisiblePosition();
+            if (childIndex >= 0 && childIndex < getChildCount()) {
+                View view = getChildAt(childIndex);
+                if (view instanceof MonthView && ((MonthView) view).getCells() == monthCells) {
+                    ((MonthView) view).rebindCells(fromIndex, toIndex);
+                }
+            }
+        }
+
+        @Override
+        public void scrollToMonth(int position, boolean smoothScroll) {
+            final int generation = ++scrollGeneration;
+            post(() -> {
+                if (generation != scrollGeneration) {
+                    return;
+                }
+                if (smoothScroll) {
+                    smoothScrollToPosition(position);
+                } else {
+                    setSelection(position);
+                }
+            });
+        }
+
+        @Override
+        public void post(Runnable action) {
+            CalendarPickerView.this.post(action);
         }
-        return cells;
     }
 
-    private boolean containsDate(List<Calendar> selectedCals, Date date) {
-        Calendar cal = Calendar.getInstance(timeZone, locale);
-        cal.setTime(date);
-        return containsDate(selectedCals, cal);
+    /** Set the selectable state of the days of a month, asking the filter about it at once. */
+    private void applySelectableState(MonthCells monthCells) {
+        MonthGrid grid = monthCells.getGrid();
+        int firstOfMonth = monthCells.getDay(grid.getLeadingDays());
+        int lastOfMonth = firstOfMonth + grid.getMonthLength() - 1;
+        boolean isAsync = filterExecutor != null && dateConfiguredListener != null;
+        if (isAsync) {
+            requestSelectableDays(grid.getMonthOrdinal(), firstOfMonth, lastOfMonth);
+        } else {
+            checkSelectableDays(firstOfMonth, lastOfMonth);
+        }
+
+        for (int index = 0; index < monthCells.size(); index++) {
+            int day = monthCells.getDay(index);
+            boolean isInMonth = monthCells.isInMonth(index);
+            // Days the filter is still being asked about are pending, and can't be selected yet.
+            boolean isPending = isAsync && isInMonth && day >= minDay && day <= maxDay
+                                && !filterCheckedDays.contains(day);
+            monthCells.setFlag(index, MonthCells.FLAG_PENDING, isPending);
+            monthCells.setFlag(index, MonthCells.FLAG_SELECTABLE, isInMonth && !isPending && isDaySelectable(day));
+        }
     }
 
-    private static boolean containsDate(List<Calendar> selectedCals, Calendar cal) {
-        for (Calendar selectedCal : selectedCals) {
-            if (sameDate(cal, selectedCal)) {
-                return true;
+    /**
+     * Make sure the filter was asked about every day from {@code fromDay} to {@code toDay}, both
+     * inclusive, asking it about the days it wasn't asked about yet in runs as long as possible.
+     */
+    private void checkSelectableDays(int fromDay, int toDay) {
+        if (dateConfiguredListener == null) {
+            return;
+        }
+        fromDay = Math.max(fromDay, minDay);
+        toDay = Math.min(toDay, maxDay);
+
+        for (int day = filterCheckedDays.nextAbsent(fromDay); day <= toDay;
+             day = filterCheckedDays.nextAbsent(day)) {
+            int nextChecked = filterCheckedDays.next(day);
+            int lastDay = nextChecked == CalendarDays.NO_DAY ? toDay : Math.min(toDay, nextChecked - 1);
+
+            filterResults.clear();
+            askFilter(dateConfiguredListener, day, lastDay, timeZone, filterResults);
+            storeFilterResults(day, lastDay, filterResults);
+            day = lastDay + 1;
+        }
+    }
+
+    /**
+     * Ask the filter on {@link #filterExecutor} about the days of a month from {@code fromDay} to
+     * {@code toDay} it wasn't asked about yet, unless that's already underway.
+     */
+    private void requestSelectableDays(int monthOrdinal, int fromDay, int toDay) {
+        fromDay = filterCheckedDays.nextAbsent(Math.max(fromDay, minDay));
+        toDay = Math.min(toDay, maxDay);
+        if (fromDay > toDay) {
+            return;
+        }
+        for (SelectabilityTask task : selectabilityTasks) {
+            if (task.monthOrdinal == monthOrdinal) {
+                return;
             }
         }
-        return false;
+
+        SelectabilityTask task =
+                new SelectabilityTask(monthOrdinal, fromDay, toDay, dateConfiguredListener, timeZone);
+        selectabilityTasks.add(task);
+        filterExecutor.execute(task);
     }
 
-    private static Calendar minDate(List<Calendar> selectedCals) {
-        if (selectedCals == null || selectedCals.size() == 0) {
-            return null;
+    /** Keep what the filter said about the days from {@code fromDay} to {@code toDay}. */
+    private void storeFilterResults(int fromDay, int toDay, BitSet results) {
+        filterAcceptedDays.removeRange(fromDay, toDay);
+        for (int i = results.nextSetBit(0); i >= 0 && i <= toDay - fromDay; i = results.nextSetBit(i + 1)) {
+            filterAcceptedDays.add(fromDay + i);
         }
-        Collections.sort(selectedCals);
-        return selectedCals.get(0);
+        filterCheckedDays.addRange(fromDay, toDay);
     }
 
-    private static Calendar maxDate(List<Calendar> selectedCals) {
-        if (selectedCals == null || selectedCals.size() == 0) {
-            return null;
+    /** Apply the answers of a {@link SelectabilityTask}, on the main thread. */
+    private void onSelectableDaysResult(SelectabilityTask task) {
+        if (!selectabilityTasks.remove(task)) {
+            // Cancelled in the meantime.
+            return;
+        }
+        storeFilterResults(task.fromDay, task.toDay, task.results);
+
+        int index = task.monthOrdinal - minMonthOrdinal;
+        MonthCellsCache cells = calendarState.cells;
+        for (int i = 0; i < cells.size(); i++) {
+            if (cells.keyAt(i) != index) {
+                continue;
+            }
+            MonthCells monthCells = cells.valueAt(i);
+            applySelectableState(monthCells);
+            calendarState.applySelectionState(monthCells);
         }
-        Collections.sort(selectedCals);
-        return selectedCals.get(selectedCals.size() - 1);
+        rebindChangedCells();
     }
 
-    private static boolean sameDate(Calendar cal, Calendar selectedDate) {
-        return cal.get(MONTH) == selectedDate.get(MONTH)
-               && cal.get(YEAR) == selectedDate.get(YEAR)
-               && cal.get(DAY_OF_MONTH) == selectedDate.get(DAY_OF_MONTH);
+    /** Stop asking the filter about the month shown by {@code monthCells}, if it is underway. */
+    private void cancelSelectabilityTask(MonthCells monthCells) {
+        int monthOrdinal = monthCells.getGrid().getMonthOrdinal();
+        for (int i = 0; i < selectabilityTasks.size(); i++) {
+            SelectabilityTask task = selectabilityTasks.get(i);
+            if (task.monthOrdinal == monthOrdinal) {
+                task.isCancelled = true;
+                selectabilityTasks.remove(i);
+                return;
+            }
+        }
     }
 
-    private static boolean betweenDates(Calendar cal, Calendar minCal, Calendar maxCal) {
-        final Date date = cal.getTime();
-        return betweenDates(date, minCal, maxCal);
+    private void cancelSelectabilityTasks() {
+        for (SelectabilityTask task : selectabilityTasks) {
+            task.isCancelled = true;
+        }
+        selectabilityTasks.clear();
     }
 
-    static boolean betweenDates(Date date, Calendar minCal, Calendar maxCal) {
-        final Date min = minCal.getTime();
-        return (date.equals(min) || date.after(min)) // >= minCal
-               && date.before(maxCal.getTime()); // && < maxCal
+    /**
+     * Ask a filter which of the days from {@code fromDay} to {@code toDay} can be selected, setting
+     * the bit {@code i} of {@code results} when {@code fromDay + i} can. Safe to call from any
+     * thread, as long as the filter is.
+     */
+    private static void askFilter(
+            DateSelectableFilter filter, int fromDay, int toDay, TimeZone timeZone, BitSet results
+    ) {
+        if (filter instanceof BulkDateSelectableFilter) {
+            ((BulkDateSelectableFilter) filter)
+                    .getSelectableDates(CalendarDays.toDate(fromDay, timeZone), toDay - fromDay + 1, results);
+        } else {
+            for (int day = fromDay; day <= toDay; day++) {
+                if (filter.isDateSelectable(CalendarDays.toDate(day, timeZone))) {
+                    results.set(day - fromDay);
+                }
+            }
+        }
     }
 
-    @SuppressWarnings("MagicConstant")
-    private static boolean sameMonth(Calendar cal, MonthDescriptor month) {
-        return (cal.get(MONTH) == month.getMonth() && cal.get(YEAR) == month.getYear());
+    private void clearFilterResults() {
+        cancelSelectabilityTasks();
+        filterCheckedDays.clear();
+        filterAcceptedDays.clear();
     }
 
-    private boolean isDateSelectable(Date date) {
-        return dateConfiguredListener == null || dateConfiguredListener.isDateSelectable(date);
+    /**
+     * Whether an epoch day is in range and accepted by the filter. The filter is asked about the
+     * whole month of the day the first time, and its answers are remembered.
+     */
+    private boolean isDaySelectable(int day) {
+        if (day < minDay || day > maxDay) {
+            return false;
+        }
+        if (dateConfiguredListener == null) {
+            return true;
+        }
+        if (!filterCheckedDays.contains(day)) {
+            int monthOrdinal = CalendarDays.monthOrdinal(day);
+            checkSelectableDays(
+                    CalendarDays.firstDayOfMonth(monthOrdinal), CalendarDays.firstDayOfMonth(monthOrdinal + 1) - 1);
+        }
+        return filterAcceptedDays.contains(day);
     }
 
     public void setOnDateSelectedListener(OnDateSelectedListener listener) {
@@ -1250,11 +1732,60 @@ public class CalendarPickerView extends ListView {
      * Set a listener used to discriminate between selectable and unselectable dates. Set this to
      * disable arbitrary dates as they are rendered.
      * <p>
+     * The filter is asked about a month at a time and its answers are remembered: those of a
+     * {@link BulkDateSelectableFilter} until {@link #invalidateSelectableDates(Date, Date)} is
+     * called, those of other filters until then or the next {@link #init(Date, Date)} call.
+     * <p>
      * Important: set this before you call {@link #init(Date, Date)} methods.  If called afterwards,
      * it will not be consistently applied.
      */
     public void setDateSelectableFilter(DateSelectableFilter listener) {
         dateConfiguredListener = listener;
+        clearFilterResults();
+    }
+
+    /**
+     * Ask the {@link DateSelectableFilter} on {@code executor} rather than on the main thread, for
+     * filters too slow to be asked while scrolling. Months are shown right away, their days being
+     * pending (see {@link CalendarCellView#isPending()}) and not selectable until the filter
+     * answered, and only the rows of those days are bound again then. Asking about a month is
+     * cancelled if it scrolls away first.
+     * <p>
+     * The filter must be safe to call from the executor's threads. It is still asked on the main
+     * thread about dates that aren't displayed, to validate {@link #selectDate(Date)} for instance.
+     *
+     * @param executor the executor to ask the filter on, or null to ask it on the main thread
+     */
+    public void setDateSelectableExecutor(@Nullable Executor executor) {
+        filterExecutor = executor;
+    }
+
+    /**
+     * Forget what the {@link DateSelectableFilter} said about the dates from {@code start} to
+     * {@code end}, both inclusive, and ask it again about those that are displayed. Call this when
+     * the data the filter relies on changes.
+     */
+    public void invalidateSelectableDates(Date start, Date end) {
+        // Answers underway may be stale, the displayed months ask again below.
+        cancelSelectabilityTasks();
+        filterCheckedDays.removeRange(toDay(start), toDay(end));
+        refreshSelectableCells();
+    }
+
+    /** Forget everything the {@link DateSelectableFilter} said, and ask it again. */
+    public void invalidateSelectableDates() {
+        clearFilterResults();
+        refreshSelectableCells();
+    }
+
+    /** Re-apply the selectable state to the cells that are already built, and redraw them. */
+    private void refreshSelectableCells() {
+        MonthCellsCache cells = calendarState.cells;
+        for (int i = 0; i < cells.size(); i++) {
+            applySelectableState(cells.valueAt(i));
+        }
+        calendarState.refreshCachedCells();
+        rebindChangedCells();
     }
 
     /**
@@ -1265,11 +1796,33 @@ public class CalendarPickerView extends ListView {
      */
     public void setCustomDayView(DayViewAdapter dayViewAdapter) {
         this.dayViewAdapter = dayViewAdapter;
+        refreshMonthViewPool();
         if (null != adapter) {
-            adapter.notifyDataSetChanged();
+            validateAndUpdate();
+        }
+    }
+
+    /**
+     * Draw each month with a single view, rather than with a view per cell. Months then take much
+     * less time to measure, lay out and draw while scrolling, but there are no
+     * {@link CalendarCellView}s: a custom {@link DayViewAdapter} and decorators only apply if they
+     * implement {@link CalendarCellPainter}, and draw the cells themselves. Accessibility services
+     * still see each day, as a virtual view with its full date and a click action.
+     * <p>
+     * Can also be set with the {@code calendarpicker_drawnMonths} attribute.
+     */
+    public void setDrawnMonths(boolean drawnMonths) {
+        if (this.drawnMonths != drawnMonths) {
+            this.drawnMonths = drawnMonths;
+            refreshMonthViewPool();
+            validateAndUpdate();
         }
     }
 
+    public boolean isDrawnMonths() {
+        return drawnMonths;
+    }
+
     /** Set a listener to intercept clicks on calendar cells. */
     public void setCellClickInterceptor(CellClickInterceptor listener) {
         cellClickInterceptor = listener;
@@ -1323,6 +1876,27 @@ public class CalendarPickerView extends ListView {
         boolean isDateSelectable(Date date);
     }
 
+    /**
+     * {@link DateSelectableFilter} that can answer for many consecutive days at once, for filters
+     * that look dates up in a table or a database. The picker asks it about a month at a time
+     * instead of calling {@link #isDateSelectable(Date)} for each day, and remembers the answers
+     * until {@link CalendarPickerView#invalidateSelectableDates(Date, Date)} is called.
+     *
+     * @see #setDateSelectableFilter(DateSelectableFilter)
+     */
+    public interface BulkDateSelectableFilter extends DateSelectableFilter {
+
+        /**
+         * Report which of {@code dayCount} consecutive days can be selected, by setting the bit
+         * {@code i} of {@code selectable} when the {@code i}-th day after {@code firstDate} can.
+         *
+         * @param firstDate Midnight of the first day, in the time zone of the calendar.
+         * @param dayCount Number of days to answer for.
+         * @param selectable Cleared set to report the selectable days in.
+         */
+        void getSelectableDates(Date firstDate, int dayCount, BitSet selectable);
+    }
+
     /**
      * Interface to be notified when a cell is clicked and possibly intercept the click.  Return true
      * to intercept the click and prevent any selections from changing.
@@ -1333,6 +1907,147 @@ public class CalendarPickerView extends ListView {
         boolean onCellClicked(Date date);
     }
 
+    /** Asks the filter about the days of a month on {@link #filterExecutor}. */
+    private final class SelectabilityTask implements Runnable {
+
+        final int monthOrdinal;
+        final int fromDay;
+        final int toDay;
+        final BitSet results = new BitSet();
+        volatile boolean isCancelled;
+        private final DateSelectableFilter filter;
+        private final TimeZone timeZone;
+
+        SelectabilityTask(
+                int monthOrdinal, int fromDay, int toDay, DateSelectableFilter filter, TimeZone timeZone
+        ) {
+            this.monthOrdinal = monthOrdinal;
+            this.fromDay = fromDay;
+            this.toDay = toDay;
+            this.filter = filter;
+            this.timeZone = timeZone;
+        }
+
+        @Override
+        public void run() {
+            if (isCancelled) {
+                return;
+            }
+            askFilter(filter, fromDay, toDay, timeZone, results);
+            host.post(() -> onSelectableDaysResult(this));
+        }
+    }
+
+    /**
+     * Saved state of a calendar: its bounds, options, selection and highlights, the days being
+     * written as runs of consecutive days, and the month scrolled to.
+     */
+    static final class SavedState extends AbsSavedState {
+
+        static final int NO_MONTH = Integer.MIN_VALUE;
+
+        int minDay;
+        int maxDay;
+        String timeZoneId;
+        String localeTag;
+        int selectionMode;
+        boolean displayOnly;
+        boolean monthsReverseOrder;
+        boolean isSelectingNext;
+        // First and last days of each run, both inclusive.
+        int[] selectedRuns;
+        int rangeStart;
+        int rangeEnd;
+        int[] highlightedRuns;
+        // Month ordinal of the first visible month, and its offset from the top of the list.
+        int scrollMonthOrdinal = NO_MONTH;
+        int scrollOffset;
+
+        SavedState(Parcelable superState) {
+            super(superState);
+        }
+
+        SavedState(Parcel source, ClassLoader loader) {
+            super(source, loader);
+            minDay = source.readInt();
+            maxDay = source.readInt();
+            timeZoneId = source.readString();
+            localeTag = source.readString();
+            selectionMode = source.readInt();
+            int flags = source.readInt();
+            displayOnly = (flags & 1) != 0;
+            monthsReverseOrder = (flags & 2) != 0;
+            isSelectingNext = (flags & 4) != 0;
+            selectedRuns = source.createIntArray();
+            rangeStart = source.readInt();
+            rangeEnd = source.readInt();
+            highlightedRuns = source.createIntArray();
+            scrollMonthOrdinal = source.readInt();
+            scrollOffset = source.readInt();
+        }
+
+        /** Return a copy of this state over another super state. */
+        SavedState copy(Parcelable superState) {
+            SavedState state = new SavedState(superState);
+            state.minDay = minDay;
+            state.maxDay = maxDay;
+            state.timeZoneId = timeZoneId;
+            state.localeTag = localeTag;
+            state.selectionMode = selectionMode;
+            state.displayOnly = displayOnly;
+            state.monthsReverseOrder = monthsReverseOrder;
+            state.isSelectingNext = isSelectingNext;
+            state.selectedRuns = selectedRuns;
+            state.rangeStart = rangeStart;
+            state.rangeEnd = rangeEnd;
+            state.highlightedRuns = highlightedRuns;
+            state.scrollMonthOrdinal = scrollMonthOrdinal;
+            state.scrollOffset = scrollOffset;
+            return state;
+        }
+
+        @Override
+        public void writeToParcel(Parcel dest, int flags) {
+            super.writeToParcel(dest, flags);
+            dest.writeInt(minDay);
+            dest.writeInt(maxDay);
+            dest.writeString(timeZoneId);
+            dest.writeString(localeTag);
+            dest.writeInt(selectionMode);
+            dest.writeInt((displayOnly ? 1 : 0) | (monthsReverseOrder ? 2 : 0) | (isSelectingNext ? 4 : 0));
+            dest.writeIntArray(selectedRuns);
+            dest.writeInt(rangeStart);
+            dest.writeInt(rangeEnd);
+            dest.writeIntArray(highlightedRuns);
+            dest.writeInt(scrollMonthOrdinal);
+            dest.writeInt(scrollOffset);
+        }
+
+        public static final Creator<SavedState> CREATOR = new ClassLoaderCreator<SavedState>() {
+            @Override
+            public SavedState createFromParcel(Parcel source, ClassLoader loader) {
+                return new SavedState(source, loader);
+            }
+
+            @Override
+            public SavedState createFromParcel(Parcel source) {
+                return new SavedState(source, null);
+            }
+
+            @Override
+            public SavedState[] newArray(int size) {
+                return new SavedState[size];
+            }
+        };
+    }
+
+    /** Called on the main thread once a calendar initialized asynchronously is ready to display. */
+    public interface OnCalendarReadyListener {
+
+        /** @param initializer to go on initializing the calendar, selecting dates for instance */
+        void onCalendarReady(FluentInitializer initializer);
+    }
+
     private static class DefaultOnInvalidDateSelectedListener implements OnInvalidDateSelectedListener {
         @Override
         public void onInvalidDateSelected(Date date) {
@@ -0,0 +1,231 @@
+package you.thiago.calendarvertical;
+
+import android.content.Context;
+import android.os.Parcelable;
+import android.util.AttributeSet;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.Executor;
+
+/**
+ * Calendar displaying its months in a {@link RecyclerView} rather than a
+ * {@link android.widget.ListView}: the next months are prefetched during idle frames, selection
+ * changes only bind the changed cells again through payloads, and several calendars can share
+ * their month views with {@link #setRecycledViewPool(RecycledViewPool)}. Views are only handed
+ * from a calendar to another if their month views are set up alike: same day view adapter,
+ * styles, locale and day names. The theme isn't told apart, so only share a pool between
+ * calendars of the same theme.
+ * <p>
+ * It takes the same attributes as {@link CalendarPickerView}, and is configured the same way
+ * through {@link #getCalendar()}: initialization, selection, highlights, filters, decorators and
+ * listeners all have the same API. The returned picker isn't displayed itself.
+ */
+public class CalendarRecyclerView extends RecyclerView {
+
+    private final CalendarPickerView calendar;
+    private final MonthRecyclerAdapter adapter = new MonthRecyclerAdapter();
+    // Incremented by each scroll request, so that only the latest one posted is carried out.
+    private int scrollGeneration;
+
+    public CalendarRecyclerView(Context context, AttributeSet attrs) {
+        super(context, attrs);
+
+        LinearLayoutManager layoutManager = new LinearLayoutManager(context);
+        layoutManager.setItemPrefetchEnabled(true);
+        setLayoutManager(layoutManager);
+        // Months don't move around, and changed cells are bound again in place.
+        setItemAnimator(null);
+        adapter.setHasStableIds(true);
+        setAdapter(adapter);
+
+        calendar = new CalendarPickerView(context, attrs);
+        calendar.setMonthHost(new RecyclerMonthHost());
+    }
+
+    /** Return the picker holding the state of this calendar, to configure and query it. */
+    public CalendarPickerView getCalendar() {
+        return calendar;
+    }
+
+    /** @see CalendarPickerView#init(Date, Date, TimeZone, Locale) */
+    public CalendarPickerView.FluentInitializer init(Date minDate, Date maxDate, TimeZone timeZone, Locale locale) {
+        return calendar.init(minDate, maxDate, timeZone, locale);
+    }
+
+    /** @see CalendarPickerView#init(Date, Date) */
+    public CalendarPickerView.FluentInitializer init(Date minDate, Date maxDate) {
+        return calendar.init(minDate, maxDate);
+    }
+
+    /** @see CalendarPickerView#initUnbounded(Date, TimeZone, Locale) */
+    public CalendarPickerView.FluentInitializer initUnbounded(Date focusDate, TimeZone timeZone, Locale locale) {
+        return calendar.initUnbounded(focusDate, timeZone, locale);
+    }
+
+    /** @see CalendarPickerView#initUnbounded(Date) */
+    public CalendarPickerView.FluentInitializer initUnbounded(Date focusDate) {
+        return calendar.initUnbounded(focusDate);
+    }
+
+    /** @see CalendarPickerView#initAsync(Date, Date, TimeZone, Locale, Executor, CalendarPickerView.OnCalendarReadyListener) */
+    public void initAsync(
+            Date minDate, Date maxDate, TimeZone timeZone, Locale locale, Executor executor,
+            @Nullable CalendarPickerView.OnCalendarReadyListener listener
+    ) {
+        calendar.initAsync(minDate, maxDate, timeZone, locale, executor, listener);
+    }
+
+    /** @see CalendarPickerView#initUnboundedAsync(Date, TimeZone, Locale, Executor, CalendarPickerView.OnCalendarReadyListener) */
+    public void initUnboundedAsync(
+            Date focusDate, TimeZone timeZone, Locale locale, Executor executor,
+            @Nullable CalendarPickerView.OnCalendarReadyListener listener
+    ) {
+        calendar.initUnboundedAsync(focusDate, timeZone, locale, executor, listener);
+    }
+
+    @Override
+    protected Parcelable onSaveInstanceState() {
+        // The layout manager's state, within the super state, keeps the scroll position.
+        Parcelable superState = super.onSaveInstanceState();
+        CalendarPickerView.SavedState state = calendar.saveState(superState);
+        return state != null ? state : superState;
+    }
+
+    @Override
+    protected void onRestoreInstanceState(Parcelable state) {
+        if (!(state instanceof CalendarPickerView.SavedState)) {
+            super.onRestoreInstanceState(state);
+            return;
+        }
+
+        CalendarPickerView.SavedState savedState = (CalendarPickerView.SavedState) state;
+        super.onRestoreInstanceState(savedState.getSuperState());
+        calendar.restoreState(savedState);
+        // The restored scroll position supersedes those requested before, by init() for instance.
+        scrollGeneration++;
+    }
+
+    static final class MonthViewHolder extends ViewHolder {
+
+        final MonthView monthView;
+
+        MonthViewHolder(MonthView monthView) {
+            super(monthView);
+            this.monthView = monthView;
+        }
+    }
+
+    /** Payload of the cells of a month to bind again, from {@code fromIndex} to {@code toIndex}. */
+    private static final class CellRange {
+
+        final int fromIndex;
+        final int toIndex;
+
+        CellRange(int fromIndex, int toIndex) {
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+        }
+    }
+
+    private final class MonthRecyclerAdapter extends Adapter<MonthViewHolder> {
+
+        @Override
+        public int getItemCount() {
+            return calendar == null ? 0 : calendar.getMonthCount();
+        }
+
+        @Override
+        public long getItemId(int position) {
+            // Positions stand for the same month until the calendar is initialized again.
+            return position;
+        }
+
+        @Override
+        public int getItemViewType(int position) {
+            return calendar.getMonthViewType();
+        }
+
+        @NonNull
+        @Override
+        public MonthViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+            return new MonthViewHolder(calendar.createMonthView(parent));
+        }
+
+        @Override
+        public void onBindViewHolder(@NonNull MonthViewHolder holder, int position) {
+            calendar.bindMonthView(holder.monthView, position);
+        }
+
+        @Override
+        public void onBindViewHolder(@NonNull MonthViewHolder holder, int position, @NonNull List<Object> payloads) {
+            // Cells evicted from the cache and built again since are new ones: bind them in full.
+            if (payloads.isEmpty() || holder.monthView.getCells() != calendar.getMonthCellsAtPosition(position)) {
+                onBindViewHolder(holder, position);
+                return;
+            }
+
+            int fromIndex = Integer.MAX_VALUE;
+            int toIndex = -1;
+            for (Object payload : payloads) {
+                CellRange cellRange = (CellRange) payload;
+                fromIndex = Math.min(fromIndex, cellRange.fromIndex);
+                toIndex = Math.max(toIndex, cellRange.toIndex);
+            }
+            holder.monthView.rebindCells(fromIndex, toIndex);
+        }
+
+        @Override
+        public void onViewRecycled(@NonNull MonthViewHolder holder) {
+            calendar.onMonthViewRecycled(holder.monthView);
+        }
+    }
+
+    /** Displays the months of {@link #calendar} in this RecyclerView. */
+    private final class RecyclerMonthHost implements MonthHost {
+
+        @Override
+        public ViewGroup getMonthParent() {
+            return CalendarRecyclerView.this;
+        }
+
+        @Override
+        public void notifyMonthsChanged() {
+            adapter.notifyDataSetChanged();
+        }
+
+        @Override
+        public void notifyCellsChanged(int position, MonthCells monthCells, int fromIndex, int toIndex) {
+            // By position, so that the views cached or prefetched off screen are bound again too.
+            adapter.notifyItemChanged(position, new CellRange(fromIndex, toIndex));
+        }
+
+        @Override
+        public void scrollToMonth(int position, boolean smoothScroll) {
+            final int generation = ++scrollGeneration;
+            CalendarRecyclerView.this.post(() -> {
+                if (generation != scrollGeneration) {
+                    return;
+                }
+                if (smoothScroll) {
+                    smoothScrollToPosition(position);
+                } else {
+                    scrollToPosition(position);
+                }
+            });
+        }
+
+        @Override
+        public void post(Runnable action) {
+            CalendarRecyclerView.this.post(action);
+        }
+    }
+}
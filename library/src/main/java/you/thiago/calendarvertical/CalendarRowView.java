@@ -16,6 +16,15 @@ import static android.view.View.MeasureSpec.makeMeasureSpec;
 public class CalendarRowView extends ViewGroup implements View.OnClickListener {
   private boolean isHeaderRow;
   private MonthView.Listener listener;
+  // Fixed cell size contract of default cells: they are all as tall as the row, whose height only
+  // depends on the width and the cell style. It is worked out once per width, then cells are
+  // measured exactly, which they skip unless they changed.
+  private boolean fixedCellSize;
+  // Decorators may change the content of any cell, so rows then fit their tallest cell instead.
+  private boolean cellsDecorated;
+  private int fixedCellWidth = -1;
+  private int fixedRowHeight;
+  private Typeface typeface;
 
   public CalendarRowView(Context context, AttributeSet attrs) {
     super(context, attrs);
@@ -28,6 +37,11 @@ public class CalendarRowView extends ViewGroup implements View.OnClickListener {
 
   @Override protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
     final int totalWidth = MeasureSpec.getSize(widthMeasureSpec);
+    if (fixedCellSize && !cellsDecorated && !isHeaderRow) {
+      measureFixedCells(totalWidth);
+      return;
+    }
+
     int rowHeight = 0;
     int cellHeightSpec = makeMeasureSpec(totalWidth, AT_MOST);
     for (int c = 0, numChildren = getChildCount(); c < numChildren; c++) {
@@ -36,7 +50,8 @@ public class CalendarRowView extends ViewGroup implements View.OnClickListener {
       int l = (c * totalWidth) / 7;
       int r = ((c + 1) * totalWidth) / 7;
       int cellSize = r - l;
-      if (!isHeaderRow) {
+      if (!isHeaderRow && child.getMinimumHeight() != cellSize) {
+        // Setting the same minimum height again would still request a layout of the cell.
         child.setMinimumHeight(cellSize);
       }
       int cellWidthSpec = makeMeasureSpec(cellSize, EXACTLY);
@@ -53,6 +68,40 @@ public class CalendarRowView extends ViewGroup implements View.OnClickListener {
     setMeasuredDimension(widthWithPadding, heightWithPadding);
   }
 
+  private void measureFixedCells(int totalWidth) {
+    if (fixedCellWidth != totalWidth) {
+      fixedCellWidth = totalWidth;
+      // Cells all have the same style, so the first one tells how tall they are: at least as tall
+      // as the widest column is wide.
+      final View cell = getChildAt(0);
+      final int cellSize = (totalWidth + 6) / 7;
+      if (cell.getMinimumHeight() != cellSize) {
+        cell.setMinimumHeight(cellSize);
+      }
+      cell.measure(makeMeasureSpec(cellSize, EXACTLY), makeMeasureSpec(totalWidth, AT_MOST));
+      fixedRowHeight = cell.getMeasuredHeight();
+    }
+
+    final int cellHeightSpec = makeMeasureSpec(fixedRowHeight, EXACTLY);
+    for (int c = 0, numChildren = getChildCount(); c < numChildren; c++) {
+      final View child = getChildAt(c);
+      final int cellSize = ((c + 1) * totalWidth) / 7 - (c * totalWidth) / 7;
+      if (child.isLayoutRequested()
+          || child.getMeasuredWidth() != cellSize
+          || child.getMeasuredHeight() != fixedRowHeight) {
+        child.measure(makeMeasureSpec(cellSize, EXACTLY), cellHeightSpec);
+      }
+    }
+
+    setMeasuredDimension(totalWidth + getPaddingLeft() + getPaddingRight(),
+        fixedRowHeight + getPaddingTop() + getPaddingBottom());
+  }
+
+  /** Forget the fixed row height, after the style of the cells changed. */
+  private void invalidateFixedCellSize() {
+    fixedCellWidth = -1;
+  }
+
   @Override protected void onLayout(boolean changed, int left, int top, int right, int bottom) {
     int cellHeight = bottom - top;
     int width = right - left;
@@ -79,7 +128,19 @@ public class CalendarRowView extends ViewGroup implements View.OnClickListener {
     this.listener = listener;
   }
 
+  /** Set whether decorators may change the content of the cells, see {@link #fixedCellSize}. */
+  public void setCellsDecorated(boolean cellsDecorated) {
+    if (this.cellsDecorated != cellsDecorated) {
+      this.cellsDecorated = cellsDecorated;
+      invalidateFixedCellSize();
+      requestLayout();
+    }
+  }
+
   public void setDayViewAdapter(DayViewAdapter adapter) {
+    // Custom cells may be taller than the row, and differ from one another.
+    fixedCellSize = adapter.getClass() == DefaultDayViewAdapter.class;
+    invalidateFixedCellSize();
     for (int i = 0; i < getChildCount(); i++) {
       if (getChildAt(i) instanceof CalendarCellView) {
         CalendarCellView cell = ((CalendarCellView) getChildAt(i));
@@ -90,6 +151,7 @@ public class CalendarRowView extends ViewGroup implements View.OnClickListener {
   }
 
   public void setCellBackground(int resId) {
+    invalidateFixedCellSize();
     for (int i = 0; i < getChildCount(); i++) {
       getChildAt(i).setBackgroundResource(resId);
     }
@@ -116,6 +178,7 @@ public class CalendarRowView extends ViewGroup implements View.OnClickListener {
   }
 
   public void setCellTextFont(Typeface typeFace) {
+    invalidateFixedCellSize();
     for (int i = 0; i < getChildCount(); i++) {
       if (getChildAt(i) instanceof CalendarCellView) {
           ((CalendarCellView) getChildAt(i)).getDayOfMonthTextView().setTypeface(typeFace);
@@ -126,6 +189,10 @@ public class CalendarRowView extends ViewGroup implements View.OnClickListener {
   }
 
   public void setTypeface(Typeface typeface) {
+    if (this.typeface != typeface) {
+      this.typeface = typeface;
+      invalidateFixedCellSize();
+    }
     for (int i = 0; i < getChildCount(); i++) {
       if (getChildAt(i) instanceof CalendarCellView) {
         ((CalendarCellView) getChildAt(i)).getDayOfMonthTextView().setTypeface(typeface);
@@ -0,0 +1,353 @@
+package you.thiago.calendarvertical;
+
+import java.text.DateFormat;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * State of a calendar apart from its views: its bounds, the cells of its months, built when they
+ * are displayed and cached, and its selection and highlights. {@link CalendarPickerView} keeps one
+ * and adds the filter, the listeners and the views around it; it doesn't depend on the Android
+ * framework otherwise. Must be used on a single thread, only its {@link Bounds} can be worked out
+ * on another one.
+ */
+final class CalendarState {
+
+    // Number of months whose cells are kept built, enough for the visible months plus a few
+    // recently scrolled ones.
+    private static final int MONTH_CELLS_CACHE_SIZE = 12;
+
+    /** Sets the selectable state of the days of a month, see {@link CalendarState#getMonthCellsAt(int)}. */
+    interface SelectableDays {
+
+        /**
+         * Set {@link MonthCells#FLAG_SELECTABLE}, and {@link MonthCells#FLAG_PENDING} while it
+         * isn't known yet, on the cells of a month being built or still pending.
+         */
+        void apply(MonthCells monthCells);
+    }
+
+    final MonthCellsCache cells = new MonthCellsCache(MONTH_CELLS_CACHE_SIZE);
+    // Selected days in ascending order. RANGE mode doesn't use it: its selection is the
+    // [rangeStart, rangeEnd] interval instead.
+    final SortedDays selectedDays = new SortedDays();
+    // Highlighted days, as bits in pages allocated on demand.
+    final DayBitSet highlightedDays = new DayBitSet();
+    private final SelectableDays selectableDays;
+    private Bounds bounds;
+    private boolean isRangeMode;
+    // Ends of the selected range in RANGE mode, rangeEnd is NO_DAY until the range is complete.
+    private int rangeStart = CalendarDays.NO_DAY;
+    private int rangeEnd = CalendarDays.NO_DAY;
+
+    /** Create a state whose days within bounds are all selectable. */
+    CalendarState() {
+        selectableDays = this::applyBoundsSelectableState;
+    }
+
+    CalendarState(SelectableDays selectableDays) {
+        this.selectableDays = selectableDays;
+    }
+
+    /** Show the months of {@code bounds}, forgetting the months built, selection and highlights. */
+    void init(Bounds bounds) {
+        this.bounds = bounds;
+        cells.clear();
+        selectedDays.clear();
+        highlightedDays.clear();
+        isRangeMode = false;
+        rangeStart = CalendarDays.NO_DAY;
+        rangeEnd = CalendarDays.NO_DAY;
+    }
+
+    /** Return the bounds of the calendar, or null until {@link #init(Bounds)} is called. */
+    Bounds getBounds() {
+        return bounds;
+    }
+
+    /** Return the epoch day of a date in the calendar time zone. */
+    int toDay(Date date) {
+        return bounds.zoneDays.fromDate(date);
+    }
+
+    /**
+     * Return the cells of the month at the given index, building them first if they have not been
+     * built yet or were evicted from the cache.
+     */
+    MonthCells getMonthCellsAt(int index) {
+        MonthCells monthCells = cells.get(index);
+        if (monthCells == null) {
+            monthCells = buildMonthCells(index);
+            cells.put(index, monthCells);
+        } else if (monthCells.hasAnyFlag(MonthCells.FLAG_PENDING)) {
+            // Asking the filter about it was cancelled when its view was recycled: ask again about
+            // the days still pending, or take the answers that came for them in the meantime.
+            selectableDays.apply(monthCells);
+            applySelectionState(monthCells);
+            monthCells.clearChanges();
+        }
+        return monthCells;
+    }
+
+    /** Build the cells of the month at the given index, without caching them. */
+    MonthCells buildMonthCells(int index) {
+        int monthOrdinal = bounds.minMonthOrdinal + index;
+        Date date = bounds.zoneDays.toDate(CalendarDays.firstDayOfMonth(monthOrdinal));
+        MonthDescriptor month = new MonthDescriptor(
+                Math.floorMod(monthOrdinal, 12), Math.floorDiv(monthOrdinal, 12), date,
+                bounds.labels.getMonthTitle(monthOrdinal));
+        // The grid layout is shared, only this calendar's state is computed here.
+        MonthCells monthCells =
+                new MonthCells(month, MonthGrid.of(monthOrdinal, bounds.firstDayOfWeek), bounds.zoneDays);
+
+        monthCells.initFlags(bounds.todayDay);
+        selectableDays.apply(monthCells);
+        applySelectionState(monthCells);
+        monthCells.clearChanges();
+        return monthCells;
+    }
+
+    /** Whether an epoch day is within the bounds, which makes it selectable without a filter. */
+    boolean isInBounds(int day) {
+        return day >= bounds.minDay && day <= bounds.maxDay;
+    }
+
+    private void applyBoundsSelectableState(MonthCells monthCells) {
+        for (int index = 0; index < monthCells.size(); index++) {
+            boolean isSelectable = monthCells.isInMonth(index) && isInBounds(monthCells.getDay(index));
+            monthCells.setFlag(index, MonthCells.FLAG_SELECTABLE, isSelectable);
+        }
+    }
+
+    /** Re-apply the selection and highlight state to the cells that are already built. */
+    void refreshCachedCells() {
+        for (int i = 0; i < cells.size(); i++) {
+            applySelectionState(cells.valueAt(i));
+        }
+    }
+
+    /** Set the selected, range and highlighted state of every cell of a month. */
+    void applySelectionState(MonthCells monthCells) {
+        monthCells.applySelection(isRangeMode, selectedDays, rangeStart, rangeEnd, highlightedDays);
+    }
+
+    /** Select a range in RANGE mode, or separate days otherwise; the selection is kept. */
+    void setRangeMode(boolean isRangeMode) {
+        this.isRangeMode = isRangeMode;
+        refreshCachedCells();
+    }
+
+    boolean isRangeMode() {
+        return isRangeMode;
+    }
+
+    /** Return the first day of the selected range, or {@link CalendarDays#NO_DAY} if none is. */
+    int getRangeStart() {
+        return rangeStart;
+    }
+
+    /** Return the last day of the selected range, or {@link CalendarDays#NO_DAY} until it is complete. */
+    int getRangeEnd() {
+        return rangeEnd;
+    }
+
+    /** Return the earliest selected epoch day, or {@link CalendarDays#NO_DAY} if none is. */
+    int getFirstSelectedDay() {
+        return isRangeMode ? rangeStart : selectedDays.first();
+    }
+
+    /**
+     * Select a day in RANGE mode: it starts a range, or ends the one started, becoming its start
+     * if it is earlier. A complete range is cleared first, though its start is kept if
+     * {@code keepStart} is set, the day then ending a new range from it.
+     */
+    void selectRangeDay(int day, boolean keepStart) {
+        if (rangeEnd != CalendarDays.NO_DAY) {
+            int previousStart = rangeStart;
+            clearSelection();
+            if (keepStart) {
+                rangeStart = previousStart;
+            }
+        }
+
+        if (rangeStart == CalendarDays.NO_DAY) {
+            rangeStart = day;
+        } else if (day < rangeStart) {
+            // We're moving the start of the range back in time: the old start ends it.
+            rangeEnd = rangeStart;
+            rangeStart = day;
+        } else {
+            rangeEnd = day;
+        }
+        refreshCachedCells();
+    }
+
+    /**
+     * Select a day in MULTIPLE mode, or unselect it if it was selected.
+     *
+     * @return whether the day is now selected
+     */
+    boolean toggleDay(int day) {
+        boolean isSelected = !selectedDays.remove(day);
+        if (isSelected) {
+            selectedDays.add(day);
+        }
+        refreshCachedCells();
+        return isSelected;
+    }
+
+    /** Select a day in SINGLE mode, the only one then. */
+    void selectSingleDay(int day) {
+        clearSelection();
+        selectedDays.add(day);
+        refreshCachedCells();
+    }
+
+    /** Unselect every day, leaving the cells to {@link #refreshCachedCells()}. */
+    void clearSelection() {
+        selectedDays.clear();
+        rangeStart = CalendarDays.NO_DAY;
+        rangeEnd = CalendarDays.NO_DAY;
+    }
+
+    /** Highlight the given dates, which must be within the bounds. */
+    void highlightDates(Collection<Date> dates) {
+        for (Date date : dates) {
+            highlightedDays.add(toDay(date));
+        }
+        refreshCachedCells();
+    }
+
+    /** Highlight every day from {@code fromDay} to {@code toDay}, both inclusive. */
+    void highlightDayRange(int fromDay, int toDay) {
+        highlightedDays.addRange(fromDay, toDay);
+        refreshCachedCells();
+    }
+
+    /** Highlight the given epoch days. */
+    void highlightDays(int[] epochDays) {
+        for (int day : epochDays) {
+            highlightedDays.add(day);
+        }
+        refreshCachedCells();
+    }
+
+    /** Remove the highlight of the given dates. */
+    void unhighlightDates(Collection<Date> dates) {
+        for (Date date : dates) {
+            highlightedDays.remove(toDay(date));
+        }
+        refreshCachedCells();
+    }
+
+    /** Remove the highlight of every day from {@code fromDay} to {@code toDay}, both inclusive. */
+    void unhighlightDayRange(int fromDay, int toDay) {
+        highlightedDays.removeRange(fromDay, toDay);
+        refreshCachedCells();
+    }
+
+    /** Remove the highlight of the given epoch days. */
+    void unhighlightDays(int[] epochDays) {
+        for (int day : epochDays) {
+            highlightedDays.remove(day);
+        }
+        refreshCachedCells();
+    }
+
+    void clearHighlights() {
+        highlightedDays.clear();
+        refreshCachedCells();
+    }
+
+    /**
+     * Restore a selection and highlights saved as runs of days (first and last days of each run,
+     * both inclusive), keeping only the selected days within the bounds.
+     */
+    void restore(boolean isRangeMode, int[] selectedRuns, int rangeStart, int rangeEnd, int[] highlightedRuns) {
+        this.isRangeMode = isRangeMode;
+
+        selectedDays.clear();
+        for (int i = 0; i + 1 < selectedRuns.length; i += 2) {
+            int fromDay = Math.max(selectedRuns[i], bounds.minDay);
+            int toDay = Math.min(selectedRuns[i + 1], bounds.maxDay);
+            for (int day = fromDay; day <= toDay; day++) {
+                selectedDays.add(day);
+            }
+        }
+        boolean isRangeInBounds = isInBounds(rangeStart)
+                                  && (rangeEnd == CalendarDays.NO_DAY || rangeEnd <= bounds.maxDay);
+        this.rangeStart = isRangeInBounds ? rangeStart : CalendarDays.NO_DAY;
+        this.rangeEnd = isRangeInBounds ? rangeEnd : CalendarDays.NO_DAY;
+
+        highlightedDays.clear();
+        highlightedDays.addRuns(highlightedRuns);
+
+        refreshCachedCells();
+    }
+
+    /**
+     * Everything an initialization works out from its arguments. It doesn't depend on the state
+     * of a calendar, so it can be built on any thread and handed to the calendar as a whole.
+     */
+    static final class Bounds {
+
+        final TimeZone timeZone;
+        final Locale locale;
+        final ZoneDays zoneDays;
+        final Calendar today;
+        final CalendarLabels labels;
+        final DateFormat fullDateFormat;
+        // Epoch days of today and of the first and last selectable days.
+        final int todayDay;
+        final int minDay;
+        final int maxDay;
+        // First and last instants of the selectable days, to the minute.
+        final long minMillis;
+        final long maxMillis;
+        final int firstDayOfWeek;
+        // Month ordinal (year * 12 + month) of the first month, month indexes are relative to it.
+        final int minMonthOrdinal;
+        final int monthCount;
+
+        Bounds(Date minDate, Date maxDate, TimeZone timeZone, Locale locale, CalendarLabels labels) {
+            this.timeZone = timeZone;
+            this.locale = locale;
+            this.labels = labels;
+            zoneDays = new ZoneDays(timeZone);
+            today = Calendar.getInstance(timeZone, locale);
+            fullDateFormat = DateFormat.getDateInstance(DateFormat.MEDIUM, locale);
+            fullDateFormat.setTimeZone(timeZone);
+
+            // Time of day is ignored, and maxDate is exclusive: the last day is the one before it, so
+            // if maxDate is the first of a month, we don't accidentally include that month in the view.
+            todayDay = zoneDays.fromMillis(today.getTimeInMillis());
+            minDay = zoneDays.fromDate(minDate);
+            maxDay = zoneDays.fromDate(maxDate) - 1;
+            minMillis = zoneDays.toMillis(minDay);
+            maxMillis = zoneDays.toMillis(maxDay + 1) - TimeUnit.MINUTES.toMillis(1);
+            firstDayOfWeek = today.getFirstDayOfWeek();
+            minMonthOrdinal = CalendarDays.monthOrdinal(minDay);
+
+            // Show every month from minCal's to maxCal's, included. Each month is only described and
+            // built when it is displayed, see getMonthCellsAt().
+            monthCount = Math.max(CalendarDays.monthOrdinal(maxDay) - minMonthOrdinal + 1, 0);
+        }
+
+        /**
+         * Format the titles and lay out the grids of {@code count} months from the one before the
+         * month of {@code focusDay}, so that they are ready when those months are first shown.
+         */
+        void prepareMonths(int focusDay, int count) {
+            int fromOrdinal = Math.max(CalendarDays.monthOrdinal(focusDay) - 1, minMonthOrdinal);
+            int toOrdinal = Math.min(fromOrdinal + count, minMonthOrdinal + monthCount);
+            for (int monthOrdinal = fromOrdinal; monthOrdinal < toOrdinal; monthOrdinal++) {
+                labels.getMonthTitle(monthOrdinal);
+                MonthGrid.of(monthOrdinal, firstDayOfWeek);
+            }
+        }
+    }
+}
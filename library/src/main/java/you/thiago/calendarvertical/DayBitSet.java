@@ -0,0 +1,201 @@
+package you.thiago.calendarvertical;
+
+import java.util.Arrays;
+
+/**
+ * Set of epoch days backed by a paged bitmap. Each page covers {@value #PAGE_DAYS} consecutive
+ * days (about 11 years) and is only allocated once one of its days is added, so the set can hold
+ * any day without being anchored to the first day of the calendar. Membership tests are a lookup
+ * among the few allocated pages plus a bit test, and ranges of days are set or cleared a word at
+ * a time.
+ */
+final class DayBitSet {
+
+    private static final int PAGE_SHIFT = 12;
+    private static final int PAGE_DAYS = 1 << PAGE_SHIFT;
+    private static final int PAGE_MASK = PAGE_DAYS - 1;
+    private static final int WORDS_PER_PAGE = PAGE_DAYS >> 6;
+
+    // Allocated pages sorted by key, the key of a day's page being day >> PAGE_SHIFT.
+    private int[] pageKeys = new int[4];
+    private long[][] pages = new long[4][];
+    private int pageCount;
+
+    void clear() {
+        Arrays.fill(pages, 0, pageCount, null);
+        pageCount = 0;
+    }
+
+    boolean isEmpty() {
+        return first() == CalendarDays.NO_DAY;
+    }
+
+    boolean contains(int day) {
+        int pageIndex = Arrays.binarySearch(pageKeys, 0, pageCount, day >> PAGE_SHIFT);
+        if (pageIndex < 0) {
+            return false;
+        }
+        int bit = day & PAGE_MASK;
+        return (pages[pageIndex][bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    void add(int day) {
+        int bit = day & PAGE_MASK;
+        getOrCreatePage(day >> PAGE_SHIFT)[bit >>> 6] |= 1L << bit;
+    }
+
+    void remove(int day) {
+        int pageIndex = Arrays.binarySearch(pageKeys, 0, pageCount, day >> PAGE_SHIFT);
+        if (pageIndex >= 0) {
+            int bit = day & PAGE_MASK;
+            pages[pageIndex][bit >>> 6] &= ~(1L << bit);
+        }
+    }
+
+    /** Add every day from {@code fromDay} to {@code toDay}, both inclusive. */
+    void addRange(int fromDay, int toDay) {
+        int lastKey = toDay >> PAGE_SHIFT;
+        for (int key = fromDay >> PAGE_SHIFT; key <= lastKey; key++) {
+            int fromBit = key == fromDay >> PAGE_SHIFT ? fromDay & PAGE_MASK : 0;
+            int toBit = key == lastKey ? toDay & PAGE_MASK : PAGE_MASK;
+            setBits(getOrCreatePage(key), fromBit, toBit, true);
+        }
+    }
+
+    /** Remove every day from {@code fromDay} to {@code toDay}, both inclusive. */
+    void removeRange(int fromDay, int toDay) {
+        int firstKey = fromDay >> PAGE_SHIFT;
+        int lastKey = toDay >> PAGE_SHIFT;
+        for (int pageIndex = 0; pageIndex < pageCount; pageIndex++) {
+            int key = pageKeys[pageIndex];
+            if (key < firstKey || key > lastKey) {
+                continue;
+            }
+            int fromBit = key == firstKey ? fromDay & PAGE_MASK : 0;
+            int toBit = key == lastKey ? toDay & PAGE_MASK : PAGE_MASK;
+            setBits(pages[pageIndex], fromBit, toBit, false);
+        }
+    }
+
+    /** Return the earliest day in the set, or {@link CalendarDays#NO_DAY} if it is empty. */
+    int first() {
+        return next(Integer.MIN_VALUE);
+    }
+
+    /**
+     * Return the earliest day in the set that is not before {@code day}, or
+     * {@link CalendarDays#NO_DAY} if there is none.
+     */
+    int next(int day) {
+        int pageIndex = Arrays.binarySearch(pageKeys, 0, pageCount, day >> PAGE_SHIFT);
+        int fromBit = day & PAGE_MASK;
+        if (pageIndex < 0) {
+            // The day's page isn't allocated, so start from the first page after it.
+            pageIndex = -pageIndex - 1;
+            fromBit = 0;
+        }
+
+        for (; pageIndex < pageCount; pageIndex++, fromBit = 0) {
+            long[] page = pages[pageIndex];
+            int wordIndex = fromBit >>> 6;
+            long word = page[wordIndex] & (-1L << fromBit);
+            while (word == 0 && ++wordIndex < WORDS_PER_PAGE) {
+                word = page[wordIndex];
+            }
+            if (word != 0) {
+                int bit = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+                return (pageKeys[pageIndex] << PAGE_SHIFT) + bit;
+            }
+        }
+        return CalendarDays.NO_DAY;
+    }
+
+    /** Return the earliest day that is not before {@code day} and not in the set. */
+    int nextAbsent(int day) {
+        int key = day >> PAGE_SHIFT;
+        int pageIndex = Arrays.binarySearch(pageKeys, 0, pageCount, key);
+        if (pageIndex < 0) {
+            return day;
+        }
+
+        int fromBit = day & PAGE_MASK;
+        // Full pages are skipped as long as the next page is allocated too.
+        for (; pageIndex < pageCount && pageKeys[pageIndex] == key; pageIndex++, key++, fromBit = 0) {
+            long[] page = pages[pageIndex];
+            int wordIndex = fromBit >>> 6;
+            long word = ~page[wordIndex] & (-1L << fromBit);
+            while (word == 0 && ++wordIndex < WORDS_PER_PAGE) {
+                word = ~page[wordIndex];
+            }
+            if (word != 0) {
+                return (key << PAGE_SHIFT) + (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+            }
+        }
+        return key << PAGE_SHIFT;
+    }
+
+    /**
+     * Return the days in the set as runs of consecutive days, each run being its first and last
+     * days, both inclusive, in ascending order.
+     */
+    int[] toRuns() {
+        int[] runs = new int[8];
+        int size = 0;
+        for (int day = first(); day != CalendarDays.NO_DAY; ) {
+            int lastDay = nextAbsent(day) - 1;
+            if (size == runs.length) {
+                runs = Arrays.copyOf(runs, size * 2);
+            }
+            runs[size++] = day;
+            runs[size++] = lastDay;
+            day = next(lastDay + 1);
+        }
+        return Arrays.copyOf(runs, size);
+    }
+
+    /** Add the days of runs as returned by {@link #toRuns()}. */
+    void addRuns(int[] runs) {
+        for (int i = 0; i + 1 < runs.length; i += 2) {
+            addRange(runs[i], runs[i + 1]);
+        }
+    }
+
+    private long[] getOrCreatePage(int key) {
+        int pageIndex = Arrays.binarySearch(pageKeys, 0, pageCount, key);
+        if (pageIndex >= 0) {
+            return pages[pageIndex];
+        }
+
+        pageIndex = -pageIndex - 1;
+        if (pageCount == pageKeys.length) {
+            pageKeys = Arrays.copyOf(pageKeys, pageCount * 2);
+            pages = Arrays.copyOf(pages, pageCount * 2);
+        }
+        System.arraycopy(pageKeys, pageIndex, pageKeys, pageIndex + 1, pageCount - pageIndex);
+        System.arraycopy(pages, pageIndex, pages, pageIndex + 1, pageCount - pageIndex);
+        pageKeys[pageIndex] = key;
+        pages[pageIndex] = new long[WORDS_PER_PAGE];
+        pageCount++;
+        return pages[pageIndex];
+    }
+
+    /** Set or clear the bits from {@code fromBit} to {@code toBit} of a page, both inclusive. */
+    private static void setBits(long[] page, int fromBit, int toBit, boolean value) {
+        int fromWord = fromBit >>> 6;
+        int toWord = toBit >>> 6;
+        for (int wordIndex = fromWord; wordIndex <= toWord; wordIndex++) {
+            long mask = -1L;
+            if (wordIndex == fromWord) {
+                mask &= -1L << fromBit;
+            }
+            if (wordIndex == toWord) {
+                mask &= -1L >>> (63 - (toBit & 63));
+            }
+            if (value) {
+                page[wordIndex] |= mask;
+            } else {
+                page[wordIndex] &= ~mask;
+            }
+        }
+    }
+}
@@ -0,0 +1,559 @@
+package you.thiago.calendarvertical;
+
+import android.annotation.SuppressLint;
+import android.content.Context;
+import android.content.res.ColorStateList;
+import android.content.res.Resources;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.Typeface;
+import android.graphics.drawable.Drawable;
+import android.os.Bundle;
+import android.text.TextPaint;
+import android.view.ContextThemeWrapper;
+import android.view.KeyEvent;
+import android.view.MotionEvent;
+import android.view.SoundEffectConstants;
+import android.view.accessibility.AccessibilityEvent;
+import android.widget.TextView;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.appcompat.content.res.AppCompatResources;
+import androidx.core.content.ContextCompat;
+import androidx.core.content.res.ResourcesCompat;
+import androidx.core.view.ViewCompat;
+import androidx.core.view.accessibility.AccessibilityNodeInfoCompat;
+import androidx.customview.widget.ExploreByTouchHelper;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Month drawn by a single view: its title, day names, cell backgrounds and day numbers are drawn
+ * on its canvas rather than by about a hundred child views, and touches are mapped to cells
+ * arithmetically. Cells are drawn with the day background and text colors of the picker, resolved
+ * for the same drawable states a {@link CalendarCellView} would have.
+ * <p>
+ * There are no cell views to customize: adapters and decorators draw through
+ * {@link CalendarCellPainter} instead. Accessibility services see each day as a virtual view,
+ * with its full date, its selected and selectable states and a click action.
+ */
+@SuppressLint("ViewConstructor")
+final class DrawnMonthView extends MonthView {
+
+    // Drawable states by cell flags, with the pressed state in the bit above them.
+    private static final int PRESSED = 1 << 8;
+    private static final int[][] drawableStates = new int[PRESSED << 1][];
+
+    private final TextPaint titlePaint;
+    private final int titlePaddingTop;
+    private final int titlePaddingBottom;
+    private final TextPaint headerPaint = new TextPaint(Paint.ANTI_ALIAS_FLAG);
+    private final Typeface headerTypeface;
+    private final Typeface weekendHeaderTypeface;
+    private final int headerPaddingBottom;
+    private final TextPaint dayPaint = new TextPaint(Paint.ANTI_ALIAS_FLAG);
+    private final Typeface dayTypeface;
+    private final Typeface selectedDayTypeface;
+    private final Paint separatorPaint = new Paint();
+    private final int separatorMarginTop;
+    private final int separatorHeight;
+    private final int horizontalPadding;
+    private Drawable dayBackground;
+    private ColorStateList dayTextColors;
+    private Typeface dateTypeface;
+    private DayViewAdapter dayViewAdapter;
+    private boolean displayHeader;
+    // Null when the day names aren't displayed.
+    private String[] weekDaysNames;
+
+    private String monthTitle = "";
+    private MonthCells cells;
+    private boolean displayOnly;
+    // Flyweight handed to the painters, and the bounds of the cell being drawn.
+    private final MonthCellDescriptor paintedCell = new MonthCellDescriptor(null, 0);
+    private final Rect cellBounds = new Rect();
+    private int pressedIndex = -1;
+    private final CellAccessibilityHelper accessibilityHelper = new CellAccessibilityHelper();
+
+    // Geometry computed by onMeasure(), in pixels.
+    private int titleHeight;
+    private int gridTop;
+    private int cellSize;
+
+    /**
+     * @param weekDaysNames the day names in column order, or null to hide them
+     */
+    static DrawnMonthView create(
+            Context context, List<String> weekDaysNames, Listener listener,
+            int dayBackgroundResId, int dayTextColorResId, int titleTextStyle, boolean displayHeader,
+            int headerTextColor, List<CalendarCellDecorator> decorators,
+            CalendarLabels labels, DayViewAdapter adapter
+    ) {
+        final DrawnMonthView view = new DrawnMonthView(context, titleTextStyle);
+
+        view.setDayViewAdapter(adapter);
+        view.setDayTextColor(dayTextColorResId);
+        view.setDisplayHeader(displayHeader);
+        view.setHeaderTextColor(headerTextColor);
+
+        if (dayBackgroundResId != 0) {
+            view.setDayBackground(dayBackgroundResId);
+        }
+
+        view.labels = labels;
+        view.locale = labels.getLocale();
+        view.isRtl = isRtl(view.locale);
+        view.alwaysDigitNumbers = labels.isAlwaysDigitNumbers();
+
+        if (weekDaysNames != null) {
+            view.setWeekDaysNames(weekDaysNames);
+        }
+
+        view.listener = listener;
+        view.decorators = decorators;
+
+        return view;
+    }
+
+    private DrawnMonthView(Context context, int titleTextStyle) {
+        super(context, null);
+        setWillNotDraw(false);
+
+        Resources res = getResources();
+
+        // The title style is resolved by a TextView, which is never displayed.
+        TextView titleStyle = new TextView(new ContextThemeWrapper(context, titleTextStyle));
+        titlePaint = new TextPaint(titleStyle.getPaint());
+        titlePaint.setColor(titleStyle.getCurrentTextColor());
+        titlePaint.setTextAlign(Paint.Align.CENTER);
+        titlePaddingTop = titleStyle.getPaddingTop();
+        titlePaddingBottom = titleStyle.getPaddingBottom();
+
+        headerPaint.setTextSize(res.getDimension(R.dimen.calendar_text_small));
+        headerPaint.setTextAlign(Paint.Align.CENTER);
+        headerTypeface = ResourcesCompat.getFont(context, R.font.week_days_medium);
+        weekendHeaderTypeface = ResourcesCompat.getFont(context, R.font.weekend_days_bold);
+        headerPaddingBottom = res.getDimensionPixelSize(R.dimen.calendar_day_headers_padding);
+
+        dayPaint.setTextSize(res.getDimension(R.dimen.calendar_text_medium));
+        dayPaint.setTextAlign(Paint.Align.CENTER);
+        dayTypeface = ResourcesCompat.getFont(context, R.font.calendar_days_medium);
+        selectedDayTypeface = ResourcesCompat.getFont(context, R.font.calendar_days_semibold);
+
+        separatorPaint.setColor(ContextCompat.getColor(context, R.color.calendar_bottom_separator));
+        separatorMarginTop = res.getDimensionPixelSize(R.dimen.calendar_bottom_margin);
+        separatorHeight = res.getDimensionPixelSize(R.dimen.calendar_bottom_separator);
+        horizontalPadding = res.getDimensionPixelSize(R.dimen.calendar_horizontal_padding);
+        setPadding(0, 0, 0, res.getDimensionPixelSize(R.dimen.calendar_month_title_padding));
+
+        ViewCompat.setAccessibilityDelegate(this, accessibilityHelper);
+    }
+
+    @Override
+    void init(
+            MonthDescriptor month, MonthCells cells,
+            boolean displayOnly, Typeface titleTypeface, Typeface dateTypeface, List<String> monthsTitle
+    ) {
+        updateMonthTitle(month, monthsTitle);
+
+        if (this.cells == null || this.cells.getNumRows() != cells.getNumRows()) {
+            requestLayout();
+        }
+        this.cells = cells;
+        this.displayOnly = displayOnly;
+        pressedIndex = -1;
+
+        setTypefaces(titleTypeface, dateTypeface);
+        invalidate();
+        accessibilityHelper.invalidateRoot();
+    }
+
+    @Override
+    void setTypefaces(Typeface titleTypeface, Typeface dateTypeface) {
+        if (titleTypeface != null) {
+            titlePaint.setTypeface(titleTypeface);
+            invalidate();
+        }
+        if (dateTypeface != null) {
+            this.dateTypeface = dateTypeface;
+            invalidate();
+        }
+    }
+
+    @Override
+    MonthCells getCells() {
+        return cells;
+    }
+
+    @Override
+    void rebindCells(int fromIndex, int toIndex) {
+        // Cells are drawn from their state: drawing them again is all it takes.
+        invalidate();
+        accessibilityHelper.invalidateRoot();
+    }
+
+    @Override
+    public void updateMonthTitle(MonthDescriptor month, List<String> monthsTitle) {
+        String monthTitle = getMonthTitle(month, monthsTitle);
+        if (monthTitle != null) {
+            this.monthTitle = monthTitle;
+            invalidate();
+        }
+    }
+
+    @Override
+    public void setDayBackground(int resId) {
+        dayBackground = AppCompatResources.getDrawable(getContext(), resId);
+        invalidate();
+    }
+
+    @Override
+    public void setDayTextColor(int resId) {
+        dayTextColors = AppCompatResources.getColorStateList(getContext(), resId);
+        invalidate();
+    }
+
+    @Override
+    public void setDayTextFont(int resId) {
+        setTypefaces(null, ResourcesCompat.getFont(getContext(), resId));
+    }
+
+    @Override
+    public void setDayViewAdapter(DayViewAdapter adapter) {
+        dayViewAdapter = adapter;
+        invalidate();
+    }
+
+    @Override
+    public void setDisplayHeader(boolean displayHeader) {
+        this.displayHeader = displayHeader;
+        requestLayout();
+    }
+
+    @Override
+    public void setHeaderTextColor(int color) {
+        headerPaint.setColor(color);
+        invalidate();
+    }
+
+    @Override
+    public void setWeekDaysNames(List<String> weekDaysNames) {
+        if (weekDaysNames.size() != 7) {
+            throw new IllegalArgumentException("Week days names must have 7 elements");
+        }
+
+        this.weekDaysNames = new String[7];
+        for (int i = 0; i < 7; i++) {
+            this.weekDaysNames[i] = formatWeekDayName(weekDaysNames.get(i));
+        }
+        requestLayout();
+    }
+
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        int width = MeasureSpec.getSize(widthMeasureSpec);
+        cellSize = (width - 2 * horizontalPadding) / 7;
+
+        titleHeight = titlePaddingTop + titlePaint.getFontMetricsInt(null) + titlePaddingBottom;
+        gridTop = titleHeight;
+        if (isHeaderDisplayed()) {
+            gridTop += Math.min(headerPaint.getFontMetricsInt(null), cellSize) + headerPaddingBottom;
+        }
+
+        int numRows = cells != null ? cells.getNumRows() : 6;
+        int height = gridTop + numRows * cellSize + separatorMarginTop + separatorHeight + getPaddingBottom();
+        setMeasuredDimension(width, height);
+    }
+
+    @Override
+    protected void onLayout(boolean changed, int l, int t, int r, int b) {
+        // Nothing to lay out: everything is drawn.
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        int width = getWidth();
+        canvas.drawText(monthTitle, width / 2f, titlePaddingTop - titlePaint.ascent(), titlePaint);
+
+        if (isHeaderDisplayed()) {
+            float baseline = titleHeight - headerPaint.ascent();
+            for (int c = 0; c < 7; c++) {
+                // As in the header row layout, the first and last columns are the weekend.
+                headerPaint.setTypeface(c == 0 || c == 6 ? weekendHeaderTypeface : headerTypeface);
+                canvas.drawText(weekDaysNames[c], horizontalPadding + (c + 0.5f) * cellSize, baseline, headerPaint);
+            }
+        }
+
+        if (cells == null) {
+            return;
+        }
+
+        for (int index = 0; index < cells.size(); index++) {
+            // Days of the neighbouring months are left blank.
+            if (cells.isInMonth(index)) {
+                drawCell(canvas, index);
+            }
+        }
+
+        int separatorTop = gridTop + cells.getNumRows() * cellSize + separatorMarginTop;
+        canvas.drawRect(0, separatorTop, width, separatorTop + separatorHeight, separatorPaint);
+    }
+
+    private void drawCell(Canvas canvas, int index) {
+        getCellBounds(index, cellBounds);
+
+        int[] drawableState = getDrawableState(cells.getFlags(index), index == pressedIndex);
+        paintedCell.bind(cells, index);
+
+        if (dayViewAdapter instanceof CalendarCellPainter) {
+            ((CalendarCellPainter) dayViewAdapter).paintCell(canvas, cellBounds, paintedCell, drawableState);
+        } else {
+            if (dayBackground != null) {
+                dayBackground.setState(drawableState);
+                dayBackground.setBounds(cellBounds);
+                dayBackground.draw(canvas);
+            }
+
+            int defaultColor = dayTextColors != null ? dayTextColors.getDefaultColor() : Color.BLACK;
+            dayPaint.setColor(dayTextColors != null
+                              ? dayTextColors.getColorForState(drawableState, defaultColor)
+                              : defaultColor);
+            if (dateTypeface != null) {
+                dayPaint.setTypeface(dateTypeface);
+            } else if (paintedCell.isSelected() && paintedCell.getRangeState() != RangeState.MIDDLE) {
+                dayPaint.setTypeface(selectedDayTypeface);
+            } else {
+                dayPaint.setTypeface(dayTypeface);
+            }
+            float baseline = cellBounds.exactCenterY() - (dayPaint.descent() + dayPaint.ascent()) / 2;
+            canvas.drawText(labels.getDayNumber(cells.getValue(index)), cellBounds.exactCenterX(), baseline, dayPaint);
+        }
+
+        if (decorators != null) {
+            for (int i = 0; i < decorators.size(); i++) {
+                if (decorators.get(i) instanceof CalendarCellPainter) {
+                    ((CalendarCellPainter) decorators.get(i)).paintCell(canvas, cellBounds, paintedCell, drawableState);
+                }
+            }
+        }
+        if (monthDecorators != null) {
+            for (int i = 0; i < monthDecorators.size(); i++) {
+                if (monthDecorators.get(i) instanceof CalendarCellPainter) {
+                    ((CalendarCellPainter) monthDecorators.get(i)).paintCell(canvas, cellBounds, paintedCell, drawableState);
+                }
+            }
+        }
+    }
+
+    @SuppressLint("ClickableViewAccessibility")
+    @Override
+    public boolean onTouchEvent(MotionEvent event) {
+        if (cells == null || displayOnly) {
+            return false;
+        }
+
+        int index = getCellIndexAt(event.getX(), event.getY());
+        switch (event.getActionMasked()) {
+            case MotionEvent.ACTION_DOWN:
+                setPressedIndex(index);
+                return index >= 0;
+            case MotionEvent.ACTION_MOVE:
+                if (index != pressedIndex) {
+                    setPressedIndex(-1);
+                }
+                return true;
+            case MotionEvent.ACTION_UP:
+                if (index >= 0 && index == pressedIndex) {
+                    playSoundEffect(SoundEffectConstants.CLICK);
+                    clickCell(index);
+                }
+                setPressedIndex(-1);
+                return true;
+            case MotionEvent.ACTION_CANCEL:
+                setPressedIndex(-1);
+                return true;
+            default:
+                return true;
+        }
+    }
+
+    @Override
+    protected boolean dispatchHoverEvent(MotionEvent event) {
+        return accessibilityHelper.dispatchHoverEvent(event) || super.dispatchHoverEvent(event);
+    }
+
+    @Override
+    public boolean dispatchKeyEvent(KeyEvent event) {
+        return accessibilityHelper.dispatchKeyEvent(event) || super.dispatchKeyEvent(event);
+    }
+
+    @Override
+    protected void onFocusChanged(boolean gainFocus, int direction, @Nullable Rect previouslyFocusedRect) {
+        super.onFocusChanged(gainFocus, direction, previouslyFocusedRect);
+        accessibilityHelper.onFocusChanged(gainFocus, direction, previouslyFocusedRect);
+    }
+
+    private void clickCell(int index) {
+        if (listener != null) {
+            listener.handleClick(new MonthCellDescriptor(cells, index));
+        }
+        accessibilityHelper.sendEventForVirtualView(index, AccessibilityEvent.TYPE_VIEW_CLICKED);
+    }
+
+    /** Set {@code bounds} to the bounds of the cell at {@code index} within this view. */
+    private void getCellBounds(int index, Rect bounds) {
+        int column = isRtl ? 6 - index % 7 : index % 7;
+        int left = horizontalPadding + column * cellSize;
+        int top = gridTop + index / 7 * cellSize;
+        bounds.set(left, top, left + cellSize, top + cellSize);
+    }
+
+    /** Return the index of the day of this month at the given point, or -1 if there is none. */
+    private int getCellIndexAt(float x, float y) {
+        if (x < horizontalPadding || y < gridTop || cellSize == 0) {
+            return -1;
+        }
+        int column = (int) ((x - horizontalPadding) / cellSize);
+        int row = (int) ((y - gridTop) / cellSize);
+        if (column > 6 || row >= cells.getNumRows()) {
+            return -1;
+        }
+        int index = row * 7 + (isRtl ? 6 - column : column);
+        return cells.isInMonth(index) ? index : -1;
+    }
+
+    private void setPressedIndex(int index) {
+        if (pressedIndex != index) {
+            pressedIndex = index;
+            invalidate();
+        }
+    }
+
+    private boolean isHeaderDisplayed() {
+        return displayHeader && weekDaysNames != null;
+    }
+
+    /**
+     * Return the drawable state of a cell with the given flags, the same as
+     * {@link CalendarCellView#onCreateDrawableState(int)} builds for it, plus the enabled and
+     * selected states {@link MonthView} sets on the cell view.
+     */
+    private static int[] getDrawableState(int flags, boolean pressed) {
+        int key = (flags & (PRESSED - 1)) | (pressed ? PRESSED : 0);
+        int[] drawableState = drawableStates[key];
+        if (drawableState != null) {
+            return drawableState;
+        }
+
+        drawableState = new int[9];
+        int size = 0;
+        if ((flags & MonthCells.FLAG_CURRENT_MONTH) != 0) {
+            drawableState[size++] = android.R.attr.state_enabled;
+            drawableState[size++] = R.attr.calendarcellview_state_current_month;
+        }
+        if ((flags & MonthCells.FLAG_SELECTED) != 0) {
+            drawableState[size++] = android.R.attr.state_selected;
+        }
+        if (pressed) {
+            drawableState[size++] = android.R.attr.state_pressed;
+        }
+        if ((flags & MonthCells.FLAG_SELECTABLE) != 0) {
+            drawableState[size++] = R.attr.calendarcellview_state_selectable;
+        }
+        if ((flags & MonthCells.FLAG_TODAY) != 0) {
+            drawableState[size++] = R.attr.calendarcellview_state_today;
+        }
+        if ((flags & MonthCells.FLAG_HIGHLIGHTED) != 0) {
+            drawableState[size++] = R.attr.calendarcellview_state_highlighted;
+        }
+        if ((flags & MonthCells.FLAG_PENDING) != 0) {
+            drawableState[size++] = R.attr.calendarcellview_state_pending;
+        }
+        RangeState rangeState = MonthCells.rangeStateOf(flags);
+        if (rangeState == RangeState.FIRST) {
+            drawableState[size++] = R.attr.calendarcellview_state_range_first;
+        } else if (rangeState == RangeState.MIDDLE) {
+            drawableState[size++] = R.attr.calendarcellview_state_range_middle;
+        } else if (rangeState == RangeState.LAST) {
+            drawableState[size++] = R.attr.calendarcellview_state_range_last;
+        }
+        drawableState = Arrays.copyOf(drawableState, size);
+        drawableStates[key] = drawableState;
+        return drawableState;
+    }
+
+    /** Virtual views of the days of the month, whose ids are the indexes of their cells. */
+    private final class CellAccessibilityHelper extends ExploreByTouchHelper {
+
+        private final Rect nodeBounds = new Rect();
+
+        CellAccessibilityHelper() {
+            super(DrawnMonthView.this);
+        }
+
+        @Override
+        protected int getVirtualViewAt(float x, float y) {
+            if (cells == null) {
+                return INVALID_ID;
+            }
+            int index = getCellIndexAt(x, y);
+            return index >= 0 ? index : INVALID_ID;
+        }
+
+        @Override
+        protected void getVisibleVirtualViews(List<Integer> virtualViewIds) {
+            if (cells == null) {
+                return;
+            }
+            for (int index = 0; index < cells.size(); index++) {
+                if (cells.isInMonth(index)) {
+                    virtualViewIds.add(index);
+                }
+            }
+        }
+
+        @Override
+        protected void onPopulateNodeForHost(@NonNull AccessibilityNodeInfoCompat node) {
+            node.setContentDescription(monthTitle);
+        }
+
+        @Override
+        protected void onPopulateNodeForVirtualView(int virtualViewId, @NonNull AccessibilityNodeInfoCompat node) {
+            if (!isCell(virtualViewId)) {
+                // Asked about a day of the month bound before: a node needs a description and bounds.
+                node.setContentDescription("");
+                nodeBounds.setEmpty();
+                node.setBoundsInParent(nodeBounds);
+                return;
+            }
+
+            int flags = cells.getFlags(virtualViewId);
+            node.setContentDescription(labels.getDayDescription(cells.getDay(virtualViewId)));
+            getCellBounds(virtualViewId, nodeBounds);
+            node.setBoundsInParent(nodeBounds);
+            node.setSelected((flags & MonthCells.FLAG_SELECTED) != 0);
+            node.setEnabled((flags & MonthCells.FLAG_SELECTABLE) != 0);
+            if (!displayOnly) {
+                node.setClickable(true);
+                node.addAction(AccessibilityNodeInfoCompat.ACTION_CLICK);
+            }
+        }
+
+        @Override
+        protected boolean onPerformActionForVirtualView(int virtualViewId, int action, @Nullable Bundle arguments) {
+            if (action != AccessibilityNodeInfoCompat.ACTION_CLICK || displayOnly || !isCell(virtualViewId)) {
+                return false;
+            }
+            clickCell(virtualViewId);
+            return true;
+        }
+
+        private boolean isCell(int virtualViewId) {
+            return cells != null && virtualViewId >= 0 && virtualViewId < cells.size() && cells.isInMonth(virtualViewId);
+        }
+    }
+}
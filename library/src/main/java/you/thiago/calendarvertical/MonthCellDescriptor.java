@@ -2,95 +2,96 @@ package you.thiago.calendarvertical;
 
 import java.util.Date;
 
-/** Describes the state of a particular date cell in a {@link MonthView}. */
+/**
+ * Describes the state of a particular date cell in a {@link MonthView}.
+ * <p>
+ * Cell state is stored in {@link MonthCells}; a descriptor is a flyweight view over one of its
+ * cells and is re-pointed to another cell whenever its {@link CalendarCellView} is bound again.
+ */
 public class MonthCellDescriptor {
 
-    private final Date date;
-    private final int value;
-    private final boolean isCurrentMonth;
-    private boolean isSelected;
-    private final boolean isToday;
-    private final boolean isSelectable;
-    private boolean isHighlighted;
-    private RangeState rangeState;
-
-    MonthCellDescriptor(
-            Date date, boolean currentMonth, boolean selectable, boolean selected,
-            boolean today, boolean highlighted, int value, RangeState rangeState
-    ) {
-        this.date = date;
-        isCurrentMonth = currentMonth;
-        isSelectable = selectable;
-        isHighlighted = highlighted;
-        isSelected = selected;
-        isToday = today;
-        this.value = value;
-        this.rangeState = rangeState;
+    private MonthCells cells;
+    private int index;
+
+    MonthCellDescriptor(MonthCells cells, int index) {
+        bind(cells, index);
+    }
+
+    void bind(MonthCells cells, int index) {
+        this.cells = cells;
+        this.index = index;
     }
 
     public Date getDate() {
-        return date;
+        return cells.getDate(index);
     }
 
     public boolean isCurrentMonth() {
-        return isCurrentMonth;
+        return cells.hasFlag(index, MonthCells.FLAG_CURRENT_MONTH);
     }
 
     public boolean isSelectable() {
-        return isSelectable;
+        return cells.hasFlag(index, MonthCells.FLAG_SELECTABLE);
     }
 
     public boolean isSelected() {
-        return isSelected;
+        return cells.hasFlag(index, MonthCells.FLAG_SELECTED);
     }
 
     public void setSelected(boolean selected) {
-        isSelected = selected;
+        cells.setFlag(index, MonthCells.FLAG_SELECTED, selected);
     }
 
     boolean isHighlighted() {
-        return isHighlighted;
+        return cells.hasFlag(index, MonthCells.FLAG_HIGHLIGHTED);
     }
 
     void setHighlighted(boolean highlighted) {
-        isHighlighted = highlighted;
+        cells.setFlag(index, MonthCells.FLAG_HIGHLIGHTED, highlighted);
+    }
+
+    /** Whether the selectability of the day is still being evaluated in the background. */
+    public boolean isPending() {
+        return cells.hasFlag(index, MonthCells.FLAG_PENDING);
     }
 
     public boolean isToday() {
-        return isToday;
+        return cells.hasFlag(index, MonthCells.FLAG_TODAY);
     }
 
     public RangeState getRangeState() {
-        return rangeState;
+        return cells.getRangeState(index);
     }
 
     public void setRangeState(RangeState rangeState) {
-        this.rangeState = rangeState;
+        cells.setRangeState(index, rangeState);
     }
 
     public int getValue() {
-        return value;
+        return cells.getValue(index);
     }
 
     @Override
     public String toString() {
         return "MonthCellDescriptor{"
                + "date="
-               + date
+               + getDate()
                + ", value="
-               + value
+               + getValue()
                + ", isCurrentMonth="
-               + isCurrentMonth
+               + isCurrentMonth()
                + ", isSelected="
-               + isSelected
+               + isSelected()
                + ", isToday="
-               + isToday
+               + isToday()
                + ", isSelectable="
-               + isSelectable
+               + isSelectable()
                + ", isHighlighted="
-               + isHighlighted
+               + isHighlighted()
+               + ", isPending="
+               + isPending()
                + ", rangeState="
-               + rangeState
+               + getRangeState()
                + '}';
     }
 }
@@ -0,0 +1,233 @@
+package you.thiago.calendarvertical;
+
+import java.util.Date;
+
+/**
+ * Compact store of the cells of a month, including the days of the previous and next months
+ * needed to fill its first and last weeks. The layout comes from a shared {@link MonthGrid}: cell
+ * {@code i} is the epoch day {@code getFirstDay() + i}, and the state a picker overlays on it is
+ * packed into a single int of flags.
+ * <p>
+ * {@link MonthCellDescriptor}s are only created on demand, as flyweight views over a cell.
+ */
+final class MonthCells {
+
+    static final int FLAG_CURRENT_MONTH = 1;
+    static final int FLAG_SELECTABLE = 1 << 1;
+    static final int FLAG_SELECTED = 1 << 2;
+    static final int FLAG_TODAY = 1 << 3;
+    static final int FLAG_HIGHLIGHTED = 1 << 4;
+    // Set while the selectability of the day is evaluated in the background.
+    static final int FLAG_PENDING = 1 << 7;
+
+    // The RangeState ordinal is kept in two bits above the boolean flags.
+    private static final int RANGE_SHIFT = 5;
+    private static final int RANGE_MASK = 3 << RANGE_SHIFT;
+    private static final RangeState[] RANGE_STATES = RangeState.values();
+
+    private final MonthDescriptor month;
+    private final MonthGrid grid;
+    private final ZoneDays zoneDays;
+    private final int firstDay;
+    private final int[] flags;
+    // Range of the cells whose flags changed since clearChanges(), empty when changedTo is -1.
+    private int changedFrom;
+    private int changedTo = -1;
+
+    MonthCells(MonthDescriptor month, MonthGrid grid, ZoneDays zoneDays) {
+        this.month = month;
+        this.grid = grid;
+        this.zoneDays = zoneDays;
+        firstDay = grid.getFirstDay();
+        flags = new int[grid.size()];
+    }
+
+    MonthDescriptor getMonth() {
+        return month;
+    }
+
+    MonthGrid getGrid() {
+        return grid;
+    }
+
+    int getNumRows() {
+        return grid.getNumRows();
+    }
+
+    /** Return the number of cells, always a whole number of weeks. */
+    int size() {
+        return flags.length;
+    }
+
+    int getFirstDay() {
+        return firstDay;
+    }
+
+    int getLastDay() {
+        return firstDay + flags.length - 1;
+    }
+
+    /** Return the epoch day of the cell at {@code index}. */
+    int getDay(int index) {
+        return firstDay + index;
+    }
+
+    /** Return the index of the cell showing {@code epochDay}, or -1 if it isn't in this grid. */
+    int indexOf(int epochDay) {
+        int index = epochDay - firstDay;
+        return index >= 0 && index < flags.length ? index : -1;
+    }
+
+    /** Whether the cell at {@code index} belongs to this month, as opposed to its neighbours. */
+    boolean isInMonth(int index) {
+        return grid.isInMonth(index);
+    }
+
+    /** Return the day of month shown by the cell at {@code index}. */
+    int getValue(int index) {
+        return grid.getValue(index);
+    }
+
+    /** Return a new {@link Date} for the cell at {@code index}. */
+    Date getDate(int index) {
+        return zoneDays.toDate(firstDay + index);
+    }
+
+    int getFlags(int index) {
+        return flags[index];
+    }
+
+    void setFlags(int index, int value) {
+        if (flags[index] != value) {
+            flags[index] = value;
+            if (changedTo < 0) {
+                changedFrom = index;
+                changedTo = index;
+            } else {
+                changedFrom = Math.min(changedFrom, index);
+                changedTo = Math.max(changedTo, index);
+            }
+        }
+    }
+
+    boolean hasFlag(int index, int flag) {
+        return (flags[index] & flag) != 0;
+    }
+
+    /** Whether any cell has {@code flag} set. */
+    boolean hasAnyFlag(int flag) {
+        for (int value : flags) {
+            if ((value & flag) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void setFlag(int index, int flag, boolean value) {
+        setFlags(index, value ? flags[index] | flag : flags[index] & ~flag);
+    }
+
+    RangeState getRangeState(int index) {
+        return rangeStateOf(flags[index]);
+    }
+
+    void setRangeState(int index, RangeState rangeState) {
+        setFlags(index, withRangeState(flags[index], rangeState));
+    }
+
+    /** Set the flags that only depend on the grid: current month and today, clearing the others. */
+    void initFlags(int todayDay) {
+        for (int index = 0; index < flags.length; index++) {
+            int value = 0;
+            if (isInMonth(index)) {
+                value |= FLAG_CURRENT_MONTH;
+            }
+            if (firstDay + index == todayDay) {
+                value |= FLAG_TODAY;
+            }
+            setFlags(index, value);
+        }
+    }
+
+    /**
+     * Set the selected, range and highlighted state of every cell. In RANGE mode the selection is
+     * the {@code [rangeStart, rangeEnd]} interval, derived from its ends so that its cost doesn't
+     * depend on the range length; otherwise it is {@code selectedDays}.
+     */
+    void applySelection(
+            boolean isRangeMode, SortedDays selectedDays, int rangeStart, int rangeEnd, DayBitSet highlightedDays
+    ) {
+        boolean isRange = isRangeMode && rangeEnd != CalendarDays.NO_DAY;
+        // Cells are in ascending day order, so the selected days are matched with a single walk
+        // starting at the first selected day of the grid.
+        int nextSelected = selectedDays.ceilingIndex(firstDay);
+
+        for (int index = 0; index < flags.length; index++) {
+            int day = firstDay + index;
+            int value = flags[index];
+
+            boolean isSelected;
+            RangeState rangeState = RangeState.NONE;
+            if (isRangeMode) {
+                isSelected = day == rangeStart || day == rangeEnd;
+                if (isRange) {
+                    if (day == rangeStart) {
+                        rangeState = RangeState.FIRST;
+                    } else if (day == rangeEnd) {
+                        rangeState = RangeState.LAST;
+                    } else if (day > rangeStart && day < rangeEnd) {
+                        rangeState = RangeState.MIDDLE;
+                        // Every selectable day in between the range ends is part of the selection.
+                        isSelected = (value & FLAG_SELECTABLE) != 0;
+                    }
+                }
+            } else {
+                isSelected = nextSelected < selectedDays.size() && selectedDays.get(nextSelected) == day;
+                if (isSelected) {
+                    nextSelected++;
+                }
+            }
+            isSelected &= (value & FLAG_CURRENT_MONTH) != 0;
+
+            value &= ~(FLAG_SELECTED | FLAG_HIGHLIGHTED);
+            if (isSelected) {
+                value |= FLAG_SELECTED;
+            }
+            // Only selectable days can show as highlighted, whatever was asked.
+            if ((value & FLAG_SELECTABLE) != 0 && highlightedDays.contains(day)) {
+                value |= FLAG_HIGHLIGHTED;
+            }
+            setFlags(index, withRangeState(value, rangeState));
+        }
+    }
+
+    /** Whether the flags of any cell changed since the last {@link #clearChanges()}. */
+    boolean hasChanges() {
+        return changedTo >= 0;
+    }
+
+    /** Return the index of the first cell whose flags changed, see {@link #hasChanges()}. */
+    int getChangedFrom() {
+        return changedFrom;
+    }
+
+    /** Return the index of the last cell whose flags changed, see {@link #hasChanges()}. */
+    int getChangedTo() {
+        return changedTo;
+    }
+
+    void clearChanges() {
+        changedTo = -1;
+    }
+
+    /** Return the range state held in the flags {@code value}. */
+    static RangeState rangeStateOf(int value) {
+        return RANGE_STATES[(value & RANGE_MASK) >>> RANGE_SHIFT];
+    }
+
+    /** Return {@code value} with its range state bits replaced by {@code rangeState}. */
+    static int withRangeState(int value, RangeState rangeState) {
+        return (value & ~RANGE_MASK) | (rangeState.ordinal() << RANGE_SHIFT);
+    }
+}
@@ -0,0 +1,70 @@
+package you.thiago.calendarvertical;
+
+/**
+ * Bounded least-recently-used cache of built {@link MonthCells}, keyed by month index. Entries
+ * are kept in plain arrays ordered from most to least recently used; with a capacity of a few
+ * months a linear scan beats hashing and never boxes the keys.
+ */
+final class MonthCellsCache {
+
+    private final int[] keys;
+    private final MonthCells[] values;
+    private int size;
+
+    MonthCellsCache(int maxSize) {
+        keys = new int[maxSize];
+        values = new MonthCells[maxSize];
+    }
+
+    /** Return the cells cached for {@code key} and mark them as most recently used. */
+    MonthCells get(int key) {
+        for (int i = 0; i < size; i++) {
+            if (keys[i] == key) {
+                MonthCells value = values[i];
+                moveToFront(i, key, value);
+                return value;
+            }
+        }
+        return null;
+    }
+
+    /** Cache {@code value} for {@code key}, evicting the least recently used entry if full. */
+    void put(int key, MonthCells value) {
+        for (int i = 0; i < size; i++) {
+            if (keys[i] == key) {
+                moveToFront(i, key, value);
+                return;
+            }
+        }
+        if (size < keys.length) {
+            size++;
+        }
+        moveToFront(size - 1, key, value);
+    }
+
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            values[i] = null;
+        }
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int keyAt(int position) {
+        return keys[position];
+    }
+
+    MonthCells valueAt(int position) {
+        return values[position];
+    }
+
+    private void moveToFront(int position, int key, MonthCells value) {
+        System.arraycopy(keys, 0, keys, 1, position);
+        System.arraycopy(values, 0, values, 1, position);
+        keys[0] = key;
+        values[0] = value;
+    }
+}
@@ -8,6 +8,8 @@ public class MonthDescriptor {
     private final int year;
     private final Date date;
     private String label;
+    // The label capitalized, computed when first needed.
+    private String title;
 
     MonthDescriptor(int month, int year, Date date, String label) {
         this.month = month;
@@ -34,6 +36,15 @@ public class MonthDescriptor {
 
     void setLabel(String label) {
         this.label = label;
+        title = null;
+    }
+
+    /** Return the label with its first letter capitalized, as month views show it. */
+    String getTitle() {
+        if (title == null) {
+            title = label.substring(0, 1).toUpperCase() + label.substring(1);
+        }
+        return title;
     }
 
     @Override
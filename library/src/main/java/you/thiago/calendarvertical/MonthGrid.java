@@ -0,0 +1,96 @@
+package you.thiago.calendarvertical;
+
+/**
+ * Immutable geometry of a month grid: which epoch days it shows, how many of them belong to the
+ * previous month and how many weeks it spans. It only depends on the month and the first day of
+ * the week, not on the time zone or on any picker, so grids are shared by every picker of the
+ * process through {@link #of(int, int)}.
+ * <p>
+ * Per-picker cell state is kept apart, in a {@link MonthCells} built over a grid.
+ */
+final class MonthGrid {
+
+    // Number of grids kept, a power of two: with the key below, any five years of months fit in
+    // the cache without collisions for a given first day of the week.
+    private static final int CACHE_SIZE = 512;
+
+    // Direct-mapped cache. Grids are immutable and only reachable through final fields, so they
+    // can be shared between threads without locking: a racing put only costs a rebuild.
+    private static final MonthGrid[] cache = new MonthGrid[CACHE_SIZE];
+
+    private final int monthOrdinal;
+    private final int firstDayOfWeek;
+    private final int firstDay;
+    private final int leadingDays;
+    private final int monthLength;
+    private final int previousMonthLength;
+    private final int numRows;
+
+    private MonthGrid(int monthOrdinal, int firstDayOfWeek) {
+        this.monthOrdinal = monthOrdinal;
+        this.firstDayOfWeek = firstDayOfWeek;
+        int firstOfMonth = CalendarDays.firstDayOfMonth(monthOrdinal);
+        leadingDays = CalendarDays.daysIntoWeek(firstOfMonth, firstDayOfWeek);
+        firstDay = firstOfMonth - leadingDays;
+        monthLength = CalendarDays.monthLength(monthOrdinal);
+        previousMonthLength = CalendarDays.monthLength(monthOrdinal - 1);
+        numRows = (leadingDays + monthLength + 6) / 7;
+    }
+
+    /**
+     * Return the grid of the month with the given ordinal (see
+     * {@link CalendarDays#monthOrdinal(int)}), for weeks starting on {@code firstDayOfWeek}.
+     */
+    static MonthGrid of(int monthOrdinal, int firstDayOfWeek) {
+        int slot = (monthOrdinal * 8 + firstDayOfWeek) & (CACHE_SIZE - 1);
+        MonthGrid grid = cache[slot];
+        if (grid == null || grid.monthOrdinal != monthOrdinal || grid.firstDayOfWeek != firstDayOfWeek) {
+            grid = new MonthGrid(monthOrdinal, firstDayOfWeek);
+            cache[slot] = grid;
+        }
+        return grid;
+    }
+
+    int getMonthOrdinal() {
+        return monthOrdinal;
+    }
+
+    int getNumRows() {
+        return numRows;
+    }
+
+    /** Return the number of cells, always a whole number of weeks. */
+    int size() {
+        return numRows * 7;
+    }
+
+    /** Return the epoch day of the first cell, the first day of the first week. */
+    int getFirstDay() {
+        return firstDay;
+    }
+
+    /** Return the number of days of the previous month shown before the 1st. */
+    int getLeadingDays() {
+        return leadingDays;
+    }
+
+    int getMonthLength() {
+        return monthLength;
+    }
+
+    /** Whether the cell at {@code index} belongs to this month, as opposed to its neighbours. */
+    boolean isInMonth(int index) {
+        return index >= leadingDays && index < leadingDays + monthLength;
+    }
+
+    /** Return the day of month shown by the cell at {@code index}. */
+    int getValue(int index) {
+        int dayOfMonth = index - leadingDays + 1;
+        if (dayOfMonth < 1) {
+            return previousMonthLength + dayOfMonth;
+        } else if (dayOfMonth > monthLength) {
+            return dayOfMonth - monthLength;
+        }
+        return dayOfMonth;
+    }
+}
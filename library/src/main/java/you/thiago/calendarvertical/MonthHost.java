@@ -0,0 +1,28 @@
+package you.thiago.calendarvertical;
+
+import android.view.ViewGroup;
+
+/**
+ * Where a {@link CalendarPickerView} displays its months. A picker is its own host, as a
+ * {@link android.widget.ListView}, unless a {@link CalendarRecyclerView} displays them instead.
+ */
+interface MonthHost {
+
+    /** Return the view the attached {@link MonthView}s are children of. */
+    ViewGroup getMonthParent();
+
+    /** Have every month bound again, as the months themselves or their number changed. */
+    void notifyMonthsChanged();
+
+    /**
+     * Have the cells from {@code fromIndex} to {@code toIndex}, both inclusive, of the month at
+     * the given adapter position bound again, wherever its view is, if it has one.
+     */
+    void notifyCellsChanged(int position, MonthCells monthCells, int fromIndex, int toIndex);
+
+    /** Scroll to the month at the given adapter position, once the pending layout is done. */
+    void scrollToMonth(int position, boolean smoothScroll);
+
+    /** Run {@code action} on the main thread. */
+    void post(Runnable action);
+}
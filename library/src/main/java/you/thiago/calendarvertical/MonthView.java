@@ -16,9 +16,10 @@ import android.widget.TextView;
 import androidx.core.content.res.ResourcesCompat;
 
 import java.text.DateFormat;
-import java.text.NumberFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 
@@ -29,11 +30,32 @@ public class MonthView extends LinearLayout {
     CalendarGridView grid;
     View dayNamesHeaderRowView;
 
-    private Listener listener;
-    private List<CalendarCellDecorator> decorators;
-    private boolean isRtl;
-    private Locale locale;
-    private boolean alwaysDigitNumbers;
+    Listener listener;
+    List<CalendarCellDecorator> decorators;
+    boolean isRtl;
+    Locale locale;
+    boolean alwaysDigitNumbers;
+    // What the last init() bound, to bind rows again when only their state changed.
+    private MonthCells cells;
+    private boolean displayOnly;
+    CalendarLabels labels;
+    private Typeface dayTypeface;
+    private Typeface selectedDayTypeface;
+    // Month and titles the title was last set for, not to format it again on each bind.
+    private MonthDescriptor titleMonth;
+    private List<String> titleMonthsTitle;
+    List<CalendarMonthDecorator> monthDecorators;
+    int decorationsGeneration;
+    // Day and state each cell was last bound with, and the decorations generation and display mode
+    // they were bound for. Used with month decorators only: cells for which none of that changed
+    // are left as they are, decoration included.
+    private final int[] boundDays = new int[42];
+    private final int[] boundFlags = new int[42];
+    private int boundGeneration = -1;
+    private boolean boundDisplayOnly;
+    // Cells bound since the month decorators last ran, for them to decorate in one call.
+    private final List<MonthCellDescriptor> dirtyCells = new ArrayList<>();
+    private final List<CalendarCellView> dirtyCellViews = new ArrayList<>();
 
     public static MonthView create(
             ViewGroup parent, LayoutInflater inflater,
@@ -57,7 +79,30 @@ public class MonthView extends LinearLayout {
             Locale locale, DayViewAdapter adapter
     ) {
         final MonthView view = (MonthView) inflater.inflate(R.layout.month, parent, false);
+        List<String> weekDaysNames = null;
+        if (displayDayNamesHeaderRowView && !displayDayNamesAsCalendarHeader) {
+            weekDaysNames = getWeekDaysNames(weekdayNameFormat, today, isRtl(locale));
+        }
+        CalendarLabels labels = CalendarLabels.get(new ResourceLabelPatterns(parent.getResources()),
+                                                   locale, today.getTimeZone(), showAlwaysDigitNumbers);
+        return setUp(view, weekDaysNames, listener,
+                     dayBackgroundResId, dayTextColorResId, titleTextStyle, displayHeader, headerTextColor,
+                     decorators, labels, adapter);
+    }
 
+    /**
+     * Finish setting up a view inflated from {@code R.layout.month}, which
+     * {@link #create(ViewGroup, LayoutInflater, DateFormat, Listener, Calendar, int, int, int, boolean, int, boolean, boolean, boolean, List, Locale, DayViewAdapter)}
+     * does right after inflating it. Must be called on the main thread.
+     *
+     * @param weekDaysNames the day names in column order, or null to hide them
+     */
+    static MonthView setUp(
+            MonthView view, List<String> weekDaysNames, Listener listener,
+            int dayBackgroundResId, int dayTextColorResId, int titleTextStyle, boolean displayHeader,
+            int headerTextColor, List<CalendarCellDecorator> decorators,
+            CalendarLabels labels, DayViewAdapter adapter
+    ) {
         // Set the views
         view.title = new TextView(new ContextThemeWrapper(view.getContext(), titleTextStyle));
         view.grid = view.findViewById(R.id.calendar_grid);
@@ -76,33 +121,45 @@ public class MonthView extends LinearLayout {
             view.setDayBackground(dayBackgroundResId);
         }
 
-        view.isRtl = getLayoutDirectionFromLocale(locale) == View.LAYOUT_DIRECTION_RTL;
-        view.locale = locale;
-        view.alwaysDigitNumbers = showAlwaysDigitNumbers;
-        int firstDayOfWeek = today.getFirstDayOfWeek();
-
-        if (displayDayNamesHeaderRowView && !displayDayNamesAsCalendarHeader) {
-            List<String> weekDaysNames = new ArrayList<>();
-            final int originalDayOfWeek = today.get(Calendar.DAY_OF_WEEK);
+        view.labels = labels;
+        view.locale = labels.getLocale();
+        view.isRtl = isRtl(view.locale);
+        view.alwaysDigitNumbers = labels.isAlwaysDigitNumbers();
+        view.dayTypeface = ResourcesCompat.getFont(view.getContext(), R.font.calendar_days_medium);
+        view.selectedDayTypeface = ResourcesCompat.getFont(view.getContext(), R.font.calendar_days_semibold);
 
-            for (int offset = 0; offset < 7; offset++) {
-                today.set(Calendar.DAY_OF_WEEK, getDayOfWeek(firstDayOfWeek, offset, view.isRtl));
-                weekDaysNames.add(weekdayNameFormat.format(today.getTime()));
-            }
-            
+        if (weekDaysNames != null) {
             view.setWeekDaysNames(weekDaysNames);
-            
-            today.set(Calendar.DAY_OF_WEEK, originalDayOfWeek);
         } else {
             view.dayNamesHeaderRowView.setVisibility(View.GONE);
         }
 
         view.listener = listener;
-        view.decorators = decorators;
+        view.setDecorators(decorators);
 
         return view;
     }
 
+    /** Whether months are laid out from right to left in {@code locale}. */
+    static boolean isRtl(Locale locale) {
+        return getLayoutDirectionFromLocale(locale) == View.LAYOUT_DIRECTION_RTL;
+    }
+
+    /** Return the names of the days of the week, in the order the columns show them. */
+    static List<String> getWeekDaysNames(DateFormat weekdayNameFormat, Calendar today, boolean isRtl) {
+        List<String> weekDaysNames = new ArrayList<>();
+        final int firstDayOfWeek = today.getFirstDayOfWeek();
+        final int originalDayOfWeek = today.get(Calendar.DAY_OF_WEEK);
+
+        for (int offset = 0; offset < 7; offset++) {
+            today.set(Calendar.DAY_OF_WEEK, getDayOfWeek(firstDayOfWeek, offset, isRtl));
+            weekDaysNames.add(weekdayNameFormat.format(today.getTime()));
+        }
+
+        today.set(Calendar.DAY_OF_WEEK, originalDayOfWeek);
+        return weekDaysNames;
+    }
+
     private static int getDayOfWeek(int firstDayOfWeek, int offset, boolean isRtl) {
         int dayOfWeek = firstDayOfWeek + offset;
         if (isRtl) {
@@ -115,28 +172,52 @@ public class MonthView extends LinearLayout {
         super(context, attrs);
     }
 
+    void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
     public void setDecorators(List<CalendarCellDecorator> decorators) {
         this.decorators = decorators;
+        updateCellsDecorated();
     }
 
     public List<CalendarCellDecorator> getDecorators() {
         return decorators;
     }
 
-    public void init(
-            MonthDescriptor month, List<List<MonthCellDescriptor>> cells,
+    /**
+     * Set the month decorators, and the generation of the decorations: when it changes, every cell
+     * is decorated again.
+     */
+    void setMonthDecorators(List<CalendarMonthDecorator> monthDecorators, int decorationsGeneration) {
+        this.monthDecorators = monthDecorators;
+        this.decorationsGeneration = decorationsGeneration;
+        updateCellsDecorated();
+    }
+
+    /** Have rows fit their cells while decorators may change them. */
+    private void updateCellsDecorated() {
+        // Months drawn as a single view have no grid.
+        if (grid != null) {
+            grid.setCellsDecorated((decorators != null && !decorators.isEmpty()) || hasMonthDecorators());
+        }
+    }
+
+    void init(
+            MonthDescriptor month, MonthCells cells,
             boolean displayOnly, Typeface titleTypeface, Typeface dateTypeface, List<String> monthsTitle
     ) {
         updateMonthTitle(month, monthsTitle);
 
-        NumberFormat numberFormatter;
-        if (alwaysDigitNumbers) {
-            numberFormatter = NumberFormat.getInstance(Locale.US);
-        } else {
-            numberFormatter = NumberFormat.getInstance(locale);
+        this.cells = cells;
+        this.displayOnly = displayOnly;
+        if (boundGeneration != decorationsGeneration || boundDisplayOnly != displayOnly) {
+            Arrays.fill(boundDays, CalendarDays.NO_DAY);
+            boundGeneration = decorationsGeneration;
+            boundDisplayOnly = displayOnly;
         }
 
-        final int numRows = cells.size();
+        final int numRows = cells.getNumRows();
         grid.setNumRows(numRows);
 
         for (int i = 0; i < 6; i++) {
@@ -144,12 +225,18 @@ public class MonthView extends LinearLayout {
             weekRow.setListener(listener);
 
             if (i < numRows) {
-                configCalendarRows(cells, displayOnly, weekRow, i, numberFormatter);
+                configCalendarRows(cells, displayOnly, weekRow, i);
             } else {
                 weekRow.setVisibility(GONE);
             }
         }
+        decorateDirtyCells();
+
+        setTypefaces(titleTypeface, dateTypeface);
+    }
 
+    /** Set the typefaces of the title and of the days, when they aren't null. */
+    void setTypefaces(Typeface titleTypeface, Typeface dateTypeface) {
         if (titleTypeface != null) {
             title.setTypeface(titleTypeface);
         }
@@ -158,82 +245,147 @@ public class MonthView extends LinearLayout {
         }
     }
 
+    /** Return the cells bound by the last {@link #init} call, or null if it wasn't called yet. */
+    MonthCells getCells() {
+        return cells;
+    }
+
+    /**
+     * Bind again the rows showing the cells from {@code fromIndex} to {@code toIndex}, both
+     * inclusive, after their state changed.
+     */
+    void rebindCells(int fromIndex, int toIndex) {
+        for (int i = fromIndex / 7; i <= toIndex / 7; i++) {
+            configCalendarRows(cells, displayOnly, (CalendarRowView) grid.getChildAt(i + 1), i);
+        }
+        decorateDirtyCells();
+    }
+
     public void updateMonthTitle(MonthDescriptor month, List<String> monthsTitle) {
+        if (month == titleMonth && monthsTitle == titleMonthsTitle) {
+            return;
+        }
+        titleMonth = month;
+        titleMonthsTitle = monthsTitle;
+
+        String monthTitle = getMonthTitle(month, monthsTitle);
+        if (monthTitle != null) {
+            title.setText(monthTitle);
+        }
+    }
+
+    /**
+     * Return the title of {@code month}, from {@code monthsTitle} if given, or null if the title
+     * given for it is blank and the current one must be kept.
+     */
+    static String getMonthTitle(MonthDescriptor month, List<String> monthsTitle) {
         if (monthsTitle != null && !monthsTitle.isEmpty() && monthsTitle.size() >= month.getMonth()) {
             String monthTitle = monthsTitle.get(month.getMonth());
 
             if (monthTitle != null && !monthTitle.trim().isEmpty()) {
                 if (monthTitle.contains("%s")) {
-                    title.setText(String.format(monthTitle, month.getYear()));
-                } else {
-                    title.setText(monthTitle);
+                    return String.format(monthTitle, month.getYear());
                 }
+                return monthTitle;
             }
 
-            return;
+            return null;
         }
 
-        String monthLabel = month.getLabel();
-        monthLabel = monthLabel.substring(0, 1).toUpperCase() + monthLabel.substring(1);
-
-        title.setText(monthLabel);
+        return month.getTitle();
     }
 
     private void configCalendarRows(
-            List<List<MonthCellDescriptor>> cells,
+            MonthCells cells,
             boolean displayOnly,
             CalendarRowView weekRow,
-            int i,
-            NumberFormat numberFormatter
+            int i
     ) {
         weekRow.setVisibility(VISIBLE);
-        List<MonthCellDescriptor> week = cells.get(i);
 
-        for (int c = 0; c < week.size(); c++) {
-            MonthCellDescriptor cell = week.get(isRtl ? 6 - c : c);
+        for (int c = 0; c < 7; c++) {
+            int index = i * 7 + (isRtl ? 6 - c : c);
             CalendarCellView cellView = (CalendarCellView) weekRow.getChildAt(c);
 
-            configCalendarRowCellView(displayOnly, numberFormatter, cell, cellView);
+            boolean isTracked = hasMonthDecorators() && (decorators == null || decorators.isEmpty());
+            if (isTracked
+                && boundDays[index] == cells.getDay(index)
+                && boundFlags[index] == cells.getFlags(index)) {
+                // Nothing this cell shows changed: only point its descriptor to the current cells.
+                ((MonthCellDescriptor) cellView.getTag()).bind(cells, index);
+                continue;
+            }
+
+            configCalendarRowCellView(displayOnly, cells, index, cellView);
+
+            if (hasMonthDecorators() && cells.isInMonth(index)) {
+                dirtyCells.add((MonthCellDescriptor) cellView.getTag());
+                dirtyCellViews.add(cellView);
+            }
+            if (isTracked) {
+                boundDays[index] = cells.getDay(index);
+                boundFlags[index] = cells.getFlags(index);
+            }
 
-            if (decorators != null) {
-                for (CalendarCellDecorator decorator : decorators) {
-                    decorator.decorate(cellView, cell.getDate());
+            if (decorators != null && !decorators.isEmpty()) {
+                Date date = cells.getDate(index);
+                for (int d = 0; d < decorators.size(); d++) {
+                    decorators.get(d).decorate(cellView, date);
                 }
             }
         }
     }
 
+    private boolean hasMonthDecorators() {
+        return monthDecorators != null && !monthDecorators.isEmpty();
+    }
+
+    /** Hand the cells bound since the last call to the month decorators. */
+    private void decorateDirtyCells() {
+        if (!dirtyCells.isEmpty()) {
+            for (int d = 0; d < monthDecorators.size(); d++) {
+                monthDecorators.get(d).decorate(cells.getMonth(), dirtyCells, dirtyCellViews);
+            }
+            dirtyCells.clear();
+            dirtyCellViews.clear();
+        }
+    }
+
     private void configCalendarRowCellView(
             boolean displayOnly,
-            NumberFormat numberFormatter,
-            MonthCellDescriptor cell,
+            MonthCells cells,
+            int index,
             CalendarCellView cellView
     ) {
-        String cellDate = numberFormatter.format(cell.getValue());
+        final boolean isCurrentMonth = cells.hasFlag(index, MonthCells.FLAG_CURRENT_MONTH);
+        final boolean isSelected = cells.hasFlag(index, MonthCells.FLAG_SELECTED);
+        final RangeState rangeState = cells.getRangeState(index);
+
+        String cellDate = labels.getDayNumber(cells.getValue(index));
         if (!cellView.getDayOfMonthTextView().getText().equals(cellDate)) {
             cellView.getDayOfMonthTextView().setText(cellDate);
         }
 
-        cellView.setEnabled(cell.isCurrentMonth());
         cellView.setClickable(!displayOnly);
 
-        cellView.setSelectable(cell.isSelectable());
-        cellView.setCurrentMonth(cell.isCurrentMonth());
-        cellView.setSelected(cell.isSelected());
-        cellView.setToday(cell.isToday());
-        cellView.setRangeState(cell.getRangeState());
-        cellView.setHighlighted(cell.isHighlighted());
-        cellView.setTag(cell);
-
-        if (cell.isSelected() && cell.getRangeState() != RangeState.MIDDLE) {
-            cellView.getDayOfMonthTextView()
-                    .setTypeface(ResourcesCompat.getFont(getContext(), R.font.calendar_days_semibold));
+        // All the states at once, enabled included, for a single drawable state refresh.
+        cellView.setCellFlags(cells.getFlags(index));
+
+        // The descriptor handed to the click listener is a flyweight owned by the cell view.
+        MonthCellDescriptor descriptor = (MonthCellDescriptor) cellView.getTag();
+        if (descriptor == null) {
+            cellView.setTag(new MonthCellDescriptor(cells, index));
+        } else {
+            descriptor.bind(cells, index);
+        }
+
+        if (isSelected && rangeState != RangeState.MIDDLE) {
+            cellView.getDayOfMonthTextView().setTypeface(selectedDayTypeface);
         } else {
-            cellView.getDayOfMonthTextView()
-                    .setTypeface(ResourcesCompat.getFont(getContext(), R.font.calendar_days_medium));
+            cellView.getDayOfMonthTextView().setTypeface(dayTypeface);
         }
         
-        if (!cell.isCurrentMonth()) {
+        if (!isCurrentMonth) {
             cellView.setVisibility(View.INVISIBLE);
         } else {
             cellView.setVisibility(View.VISIBLE);
@@ -274,16 +426,17 @@ public class MonthView extends LinearLayout {
         for (int i = 0; i < weekDaysNames.size(); i++) {
             final TextView textView = (TextView) headerRow.getChildAt(i);
 
-            String dayName = weekDaysNames.get(i);
-            
-            dayName = dayName.substring(0, 1).toUpperCase() + dayName.substring(1);
-            dayName = dayName.replace(".", "")
-                             .replace(",", "")
-                             .trim();
-
-            textView.setText(dayName);
+            textView.setText(formatWeekDayName(weekDaysNames.get(i)));
         }
     }
+
+    /** Capitalize a day name and strip the punctuation of its abbreviation. */
+    static String formatWeekDayName(String dayName) {
+        dayName = dayName.substring(0, 1).toUpperCase() + dayName.substring(1);
+        return dayName.replace(".", "")
+                      .replace(",", "")
+                      .trim();
+    }
     
     public interface Listener {
 
@@ -0,0 +1,98 @@
+package you.thiago.calendarvertical;
+
+import android.content.Context;
+import android.util.DisplayMetrics;
+import android.view.ViewGroup;
+
+import androidx.asynclayoutinflater.view.AsyncLayoutInflater;
+
+import java.util.ArrayDeque;
+
+/**
+ * Month views built ahead of time, so that the first months scrolled to don't inflate theirs on
+ * the main thread. Layouts are inflated on the {@link AsyncLayoutInflater} thread, then set up,
+ * cell views included, on the main thread as each of them comes back.
+ * <p>
+ * Views are set up for the state of the picker at that time, which its month view type stands
+ * for (see {@link CalendarPickerView#getMonthViewType()}): the views held are dropped when the
+ * pool is filled for another type. Inflated layouts are all alike, so those still being inflated
+ * are set up for the type of the pool when they come back, and never requested twice.
+ */
+final class MonthViewPool {
+
+    /** Finishes setting up a month view once its layout is inflated, on the main thread. */
+    interface SetUp {
+
+        void setUp(MonthView monthView);
+    }
+
+    private static final int NO_VIEW_TYPE = -1;
+
+    private final AsyncLayoutInflater inflater;
+    private final SetUp setUp;
+    private final ArrayDeque<MonthView> views = new ArrayDeque<>();
+    private int capacity;
+    // Kind of the views held and the parent they are laid out for, see prefill().
+    private int viewType = NO_VIEW_TYPE;
+    private ViewGroup parent;
+    // Inflations requested and not back yet, whatever they were requested for. The inflater
+    // blocks the main thread when its queue is full, so there are never more than the views
+    // missing.
+    private int requestedCount;
+
+    MonthViewPool(Context context, SetUp setUp) {
+        this.inflater = new AsyncLayoutInflater(context);
+        this.setUp = setUp;
+    }
+
+    /**
+     * Start building views of the given type for {@code parent} in the background, until the pool
+     * holds {@code count} of them. The views held are kept if they are of that type and for that
+     * parent, and dropped otherwise.
+     */
+    void prefill(ViewGroup parent, int viewType, int count) {
+        if (viewType != this.viewType || parent != this.parent) {
+            views.clear();
+            this.viewType = viewType;
+            this.parent = parent;
+        }
+        capacity = count;
+        for (int i = views.size() + requestedCount; i < count; i++) {
+            requestedCount++;
+            inflater.inflate(R.layout.month, parent, (view, resId, inflatedParent) -> {
+                requestedCount--;
+                // Laid out for another parent than the pool's now: of no use.
+                if (inflatedParent == this.parent && views.size() < capacity) {
+                    MonthView monthView = (MonthView) view;
+                    setUp.setUp(monthView);
+                    views.add(monthView);
+                }
+            });
+        }
+    }
+
+    /** Return a view ready to be bound, or null if there is none yet. */
+    MonthView take() {
+        return views.poll();
+    }
+
+    /** Drop the views built so far and those still being built. */
+    void clear() {
+        capacity = 0;
+        viewType = NO_VIEW_TYPE;
+        views.clear();
+    }
+
+    /**
+     * Return how many months a list as tall as the screen in portrait typically needs: the months
+     * visible at once, counted with a square cell per day and about seven and a half rows per
+     * month for its title, day names and weeks, plus the partially visible month and the one
+     * prefetched next.
+     */
+    static int estimateCount(DisplayMetrics metrics) {
+        int width = Math.min(metrics.widthPixels, metrics.heightPixels);
+        int height = Math.max(metrics.widthPixels, metrics.heightPixels);
+        float monthHeight = width / 7f * 7.5f;
+        return (int) Math.ceil(height / monthHeight) + 2;
+    }
+}
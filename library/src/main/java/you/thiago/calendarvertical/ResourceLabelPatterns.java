@@ -0,0 +1,37 @@
+package you.thiago.calendarvertical;
+
+import android.content.res.Resources;
+import android.text.format.DateFormat;
+
+import java.util.Locale;
+
+/** {@link CalendarLabels} patterns from the library resources and the platform. */
+final class ResourceLabelPatterns implements CalendarLabels.Patterns {
+
+    private final Resources res;
+
+    ResourceLabelPatterns(Resources res) {
+        this.res = res;
+    }
+
+    @Override
+    public String getDayNamePattern() {
+        return res.getString(R.string.day_name_format);
+    }
+
+    @Override
+    public String getMonthPattern(Locale locale) {
+        // The pattern DateUtils.formatDateRange() uses for a month and its year.
+        return DateFormat.getBestDateTimePattern(locale, "MMMMy");
+    }
+
+    @Override
+    public String getMonthOnlyPattern() {
+        return res.getString(R.string.month_only_name_format);
+    }
+
+    @Override
+    public String getYearOnlyPattern() {
+        return res.getString(R.string.year_only_format);
+    }
+}
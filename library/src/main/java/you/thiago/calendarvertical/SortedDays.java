@@ -0,0 +1,101 @@
+package you.thiago.calendarvertical;
+
+import java.util.Arrays;
+
+/**
+ * Set of epoch days kept sorted in a primitive array. The earliest and latest days are read in
+ * O(1), and lookups and range queries are binary searches.
+ */
+final class SortedDays {
+
+    private int[] days = new int[8];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Return the day at {@code index}, in ascending order. */
+    int get(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of " + size + " days");
+        }
+        return days[index];
+    }
+
+    /** Return the earliest day, or {@link CalendarDays#NO_DAY} if there is none. */
+    int first() {
+        return size == 0 ? CalendarDays.NO_DAY : days[0];
+    }
+
+    /** Return the latest day, or {@link CalendarDays#NO_DAY} if there is none. */
+    int last() {
+        return size == 0 ? CalendarDays.NO_DAY : days[size - 1];
+    }
+
+    boolean contains(int day) {
+        return Arrays.binarySearch(days, 0, size, day) >= 0;
+    }
+
+    /** Return the index of the earliest day that is not before {@code day}, or {@link #size()}. */
+    int ceilingIndex(int day) {
+        int index = Arrays.binarySearch(days, 0, size, day);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /** Add a day, returning false if it was already in the set. */
+    boolean add(int day) {
+        int index = Arrays.binarySearch(days, 0, size, day);
+        if (index >= 0) {
+            return false;
+        }
+        index = -index - 1;
+        if (size == days.length) {
+            days = Arrays.copyOf(days, size * 2);
+        }
+        System.arraycopy(days, index, days, index + 1, size - index);
+        days[index] = day;
+        size++;
+        return true;
+    }
+
+    /** Remove a day, returning false if it wasn't in the set. */
+    boolean remove(int day) {
+        int index = Arrays.binarySearch(days, 0, size, day);
+        if (index < 0) {
+            return false;
+        }
+        System.arraycopy(days, index + 1, days, index, size - index - 1);
+        size--;
+        return true;
+    }
+
+    /**
+     * Return the days as runs of consecutive days, each run being its first and last days, both
+     * inclusive, in ascending order.
+     */
+    int[] toRuns() {
+        int[] runs = new int[8];
+        int count = 0;
+        for (int index = 0; index < size; index++) {
+            if (count > 0 && runs[count - 1] == days[index] - 1) {
+                runs[count - 1] = days[index];
+            } else {
+                if (count == runs.length) {
+                    runs = Arrays.copyOf(runs, count * 2);
+                }
+                runs[count++] = days[index];
+                runs[count++] = days[index];
+            }
+        }
+        return Arrays.copyOf(runs, count);
+    }
+
+    void clear() {
+        size = 0;
+    }
+}
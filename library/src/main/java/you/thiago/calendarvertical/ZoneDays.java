@@ -0,0 +1,62 @@
+package you.thiago.calendarvertical;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.TimeZone;
+
+/**
+ * Epoch day arithmetic in one time zone, see {@link CalendarDays}. Midnights are resolved once and
+ * kept in a small table, since the same days are converted back to instants over and over while
+ * months are built and decorated.
+ * <p>
+ * Not thread-safe: a picker only uses its instance from the main thread.
+ */
+final class ZoneDays {
+
+    // Number of midnights kept, a power of two so that any run of that many consecutive days
+    // (a few months) fits in the table without collisions.
+    private static final int TABLE_SIZE = 128;
+
+    private final TimeZone timeZone;
+    private final int[] tableDays = new int[TABLE_SIZE];
+    private final long[] tableMidnights = new long[TABLE_SIZE];
+
+    ZoneDays(TimeZone timeZone) {
+        this.timeZone = timeZone;
+        Arrays.fill(tableDays, CalendarDays.NO_DAY);
+    }
+
+    TimeZone getTimeZone() {
+        return timeZone;
+    }
+
+    /** Return the epoch day the given instant falls on. */
+    int fromMillis(long millis) {
+        return CalendarDays.fromMillis(millis, timeZone);
+    }
+
+    /** Return the epoch day the given date falls on. */
+    int fromDate(Date date) {
+        return CalendarDays.fromMillis(date.getTime(), timeZone);
+    }
+
+    /** Return the current epoch day. */
+    int today() {
+        return fromMillis(System.currentTimeMillis());
+    }
+
+    /** Return midnight of the given epoch day, see {@link CalendarDays#toMillis(int, TimeZone)}. */
+    long toMillis(int epochDay) {
+        int slot = epochDay & (TABLE_SIZE - 1);
+        if (tableDays[slot] != epochDay) {
+            tableMidnights[slot] = CalendarDays.toMillis(epochDay, timeZone);
+            tableDays[slot] = epochDay;
+        }
+        return tableMidnights[slot];
+    }
+
+    /** Return a new {@link Date} for midnight of the given epoch day. */
+    Date toDate(int epochDay) {
+        return new Date(toMillis(epochDay));
+    }
+}
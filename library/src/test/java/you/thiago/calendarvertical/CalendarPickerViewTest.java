@@ -0,0 +1,105 @@
+package you.thiago.calendarvertical;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.app.Activity;
+import android.os.Looper;
+import android.os.Parcelable;
+import android.view.View;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class CalendarPickerViewTest {
+
+    private static final TimeZone TIME_ZONE = TimeZone.getTimeZone("UTC");
+
+    private Activity activity;
+    private CalendarPickerView picker;
+
+    @Before
+    public void setUp() {
+        activity = Robolectric.buildActivity(Activity.class).setup().get();
+        picker = new CalendarPickerView(activity, null);
+        // Attached, so that what the picker posts runs on the main looper.
+        activity.setContentView(picker);
+    }
+
+    @Test
+    public void measuresEmptyWhileFirstAsyncInitIsPending() {
+        List<Runnable> tasks = new ArrayList<>();
+        boolean[] ready = new boolean[1];
+
+        picker.initAsync(date(2024, Calendar.JANUARY, 1), date(2025, Calendar.JANUARY, 1),
+                         TIME_ZONE, Locale.US, tasks::add, initializer -> ready[0] = true);
+        measure();
+
+        assertFalse(ready[0]);
+        assertEquals(0, picker.getChildCount());
+
+        tasks.remove(0).run();
+        shadowOf(Looper.getMainLooper()).idle();
+        measure();
+
+        assertTrue(ready[0]);
+        assertEquals(12, picker.getAdapter().getCount());
+    }
+
+    @Test
+    public void restoresStateOnceAsyncInitIsApplied() {
+        List<Date> selectedDates = Arrays.asList(date(2024, Calendar.MARCH, 12), date(2024, Calendar.APRIL, 2));
+        picker.init(date(2024, Calendar.JANUARY, 1), date(2025, Calendar.JANUARY, 1), TIME_ZONE, Locale.US)
+              .inMode(CalendarPickerView.SelectionMode.MULTIPLE)
+              .withSelectedDates(selectedDates);
+        Parcelable state = picker.onSaveInstanceState();
+
+        // Recreated as after a configuration change: initialized again, then restored.
+        CalendarPickerView recreated = new CalendarPickerView(activity, null);
+        activity.setContentView(recreated);
+        List<Runnable> tasks = new ArrayList<>();
+        boolean[] ready = new boolean[1];
+        recreated.initAsync(date(2024, Calendar.JANUARY, 1), date(2025, Calendar.JANUARY, 1),
+                            TIME_ZONE, Locale.US, tasks::add, initializer -> ready[0] = true);
+        recreated.onRestoreInstanceState(state);
+
+        tasks.remove(0).run();
+        shadowOf(Looper.getMainLooper()).idle();
+
+        assertTrue(ready[0]);
+        assertEquals(selectedDates, recreated.getSelectedDates());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void measureThrowsWithoutInit() {
+        measure();
+    }
+
+    private void measure() {
+        picker.measure(View.MeasureSpec.makeMeasureSpec(1080, View.MeasureSpec.EXACTLY),
+                       View.MeasureSpec.makeMeasureSpec(1920, View.MeasureSpec.EXACTLY));
+    }
+
+    private static Date date(int year, int month, int day) {
+        Calendar calendar = Calendar.getInstance(TIME_ZONE, Locale.US);
+        calendar.clear();
+        calendar.set(year, month, day);
+        return calendar.getTime();
+    }
+}
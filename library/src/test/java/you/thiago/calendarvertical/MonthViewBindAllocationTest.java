@@ -0,0 +1,100 @@
+package you.thiago.calendarvertical;
+
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import android.app.Activity;
+import android.view.View;
+import android.widget.ListAdapter;
+
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * Binding a {@link MonthView} again to months it was already set up for must not allocate. The
+ * bytes allocated by the test thread are counted across many binds through the adapter.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class MonthViewBindAllocationTest {
+
+    private static final TimeZone TIME_ZONE = TimeZone.getTimeZone("UTC");
+    private static final int WARM_UP_BINDS = 200;
+    private static final int BINDS = 2000;
+    // Allowance for what reading the allocation counter allocates itself, a few hundred bytes
+    // once, spread over the binds. It is half the smallest object, 16 bytes, so that a single
+    // allocation per bind fails.
+    private static final long MAX_BYTES_PER_BIND = 8;
+
+    private com.sun.management.ThreadMXBean threads;
+    private CalendarPickerView picker;
+    private ListAdapter adapter;
+
+    @Before
+    public void setUp() {
+        Assume.assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        Activity activity = Robolectric.buildActivity(Activity.class).setup().get();
+        picker = new CalendarPickerView(activity, null);
+        activity.setContentView(picker);
+        picker.init(date(2024, Calendar.JANUARY, 1), date(2025, Calendar.JANUARY, 1), TIME_ZONE, Locale.US)
+              .withSelectedDate(date(2024, Calendar.MARCH, 12));
+        picker.highlightDates(Arrays.asList(date(2024, Calendar.MARCH, 20), date(2024, Calendar.APRIL, 2)));
+        adapter = picker.getAdapter();
+    }
+
+    @Test
+    public void rebindingSameMonthDoesNotAllocate() {
+        assertBindsDoNotAllocate(2, 2);
+    }
+
+    @Test
+    public void rebindingBetweenCachedMonthsDoesNotAllocate() {
+        assertBindsDoNotAllocate(2, 3);
+    }
+
+    private void assertBindsDoNotAllocate(int firstPosition, int secondPosition) {
+        View view = adapter.getView(firstPosition, null, picker);
+        for (int i = 0; i < WARM_UP_BINDS; i++) {
+            view = bind(i, view, firstPosition, secondPosition);
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < BINDS; i++) {
+            view = bind(i, view, firstPosition, secondPosition);
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        long bytesPerBind = allocated / BINDS;
+        assertTrue("Allocated " + bytesPerBind + " bytes per bind", bytesPerBind <= MAX_BYTES_PER_BIND);
+    }
+
+    private View bind(int i, View view, int firstPosition, int secondPosition) {
+        View bound = adapter.getView(i % 2 == 0 ? firstPosition : secondPosition, view, picker);
+        assertSame(view, bound);
+        return bound;
+    }
+
+    private static Date date(int year, int month, int day) {
+        Calendar calendar = Calendar.getInstance(TIME_ZONE, Locale.US);
+        calendar.clear();
+        calendar.set(year, month, day);
+        return calendar.getTime();
+    }
+}